@@ -26,20 +26,35 @@ package com.auth0.android.lock;
 
 import android.os.Parcel;
 import android.os.Parcelable;
+import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.auth0.android.Auth0;
+import com.auth0.android.request.NetworkingClient;
 import com.auth0.android.util.Auth0UserAgent;
 
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
 
 /**
- * This class wraps a {@link Auth0} to make it Parcelable
+ * This class wraps a {@link Auth0} to make it Parcelable.
+ * The NetworkingClient can't be written to a Parcel, so it's kept in memory and only a random id is written.
+ * When the Parcel is read in the same process the account gets the same client back,
+ * and its pooled connections keep being used. If the client can't be found, because the process was
+ * recreated or the client is gone, the account uses the default NetworkingClient of Auth0 instead.
  */
 public class Auth0Parcelable implements Parcelable {
 
     private static final double WITHOUT_DATA = 0x00;
     private static final double WITH_DATA = 0x01;
+    private static final String TAG = Auth0Parcelable.class.getSimpleName();
+    private static final Map<String, WeakReference<NetworkingClient>> networkingClients = new HashMap<>();
     private final Auth0 auth0;
 
     public Auth0Parcelable(@NonNull Auth0 auth0) {
@@ -62,10 +77,42 @@ public class Auth0Parcelable implements Parcelable {
         dest.writeString(auth0.getClientId());
         dest.writeString(auth0.getDomainUrl());
         dest.writeString(auth0.getConfigurationUrl());
-        //FIXME: Find a way to pass the NetworkingClient implementation
         dest.writeString(auth0.getAuth0UserAgent().getName());
         dest.writeString(auth0.getAuth0UserAgent().getVersion());
         dest.writeString(auth0.getAuth0UserAgent().getLibraryVersion());
+        dest.writeString(idForClient(auth0.getNetworkingClient()));
+    }
+
+    @NonNull
+    private static String idForClient(@NonNull NetworkingClient client) {
+        synchronized (networkingClients) {
+            final Iterator<Map.Entry<String, WeakReference<NetworkingClient>>> it = networkingClients.entrySet().iterator();
+            while (it.hasNext()) {
+                final Map.Entry<String, WeakReference<NetworkingClient>> entry = it.next();
+                final NetworkingClient known = entry.getValue().get();
+                if (known == client) {
+                    return entry.getKey();
+                }
+                if (known == null) {
+                    it.remove();
+                }
+            }
+            //a random id can't match a client registered by a later process
+            final String id = UUID.randomUUID().toString();
+            networkingClients.put(id, new WeakReference<>(client));
+            return id;
+        }
+    }
+
+    @Nullable
+    private static NetworkingClient clientForId(@Nullable String id) {
+        if (id == null) {
+            return null;
+        }
+        synchronized (networkingClients) {
+            final WeakReference<NetworkingClient> reference = networkingClients.get(id);
+            return reference != null ? reference.get() : null;
+        }
     }
 
     public static final Parcelable.Creator<Auth0Parcelable> CREATOR
@@ -86,9 +133,16 @@ public class Auth0Parcelable implements Parcelable {
         String telemetryName = in.readString();
         String telemetryVersion = in.readString();
         String telemetryLibraryVersion = in.readString();
+        NetworkingClient networkingClient = clientForId(in.readString());
 
         auth0 = new Auth0(clientId, domain, configurationDomain);
         Auth0UserAgent userAgent = new Auth0UserAgent(telemetryName, telemetryVersion, telemetryLibraryVersion);
         auth0.setAuth0UserAgent(userAgent);
+        if (networkingClient != null) {
+            auth0.setNetworkingClient(networkingClient);
+        } else {
+            //the new Auth0 instance already uses the default client
+            Log.w(TAG, "The NetworkingClient of the account is no longer available, using the default one instead.");
+        }
     }
 }
@@ -54,17 +54,18 @@ import android.text.Editable;
 import android.text.TextWatcher;
 import android.util.Log;
 import android.widget.EditText;
-import android.widget.ListView;
 
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.ActionBar;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.recyclerview.widget.DividerItemDecoration;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
 
 import com.auth0.android.lock.adapters.Country;
 import com.auth0.android.lock.adapters.CountryAdapter;
 import com.auth0.android.lock.utils.LoadCountriesTask;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class CountryCodeActivity extends AppCompatActivity {
@@ -88,10 +89,18 @@ public class CountryCodeActivity extends AppCompatActivity {
         }
 
         final EditText searchText = findViewById(R.id.com_auth0_lock_passwordless_sms_search_country);
-        final ListView listView = findViewById(R.id.com_auth0_lock_passwordless_sms_country_code_list);
-        List<Country> countryList = new ArrayList<>();
-        CountryAdapter countryAdapter = new CountryAdapter(this, countryList);
-        listView.setAdapter(countryAdapter);
+        final RecyclerView recyclerView = findViewById(R.id.com_auth0_lock_passwordless_sms_country_code_list);
+        recyclerView.setLayoutManager(new LinearLayoutManager(this));
+        recyclerView.addItemDecoration(new DividerItemDecoration(this, DividerItemDecoration.VERTICAL));
+        CountryAdapter countryAdapter = new CountryAdapter(this);
+        countryAdapter.setOnCountrySelectedListener(country -> {
+            Intent data = new Intent();
+            data.putExtra(COUNTRY_CODE_EXTRA, country.getIsoCode());
+            data.putExtra(COUNTRY_DIAL_CODE_EXTRA, country.getDialCode());
+            setResult(RESULT_OK, data);
+            finish();
+        });
+        recyclerView.setAdapter(countryAdapter);
 
         searchText.addTextChangedListener(new TextWatcher() {
             @Override
@@ -108,21 +117,13 @@ public class CountryCodeActivity extends AppCompatActivity {
             public void afterTextChanged(Editable s) {
             }
         });
-        listView.setOnItemClickListener((parent, view, position, id) -> {
-            Country country = countryAdapter.getItem(position);
-            Intent data = new Intent();
-            data.putExtra(COUNTRY_CODE_EXTRA, country.getIsoCode());
-            data.putExtra(COUNTRY_DIAL_CODE_EXTRA, country.getDialCode());
-            setResult(RESULT_OK, data);
-            finish();
-        });
 
         task = new LoadCountriesTask() {
             @Override
             protected void onPostExecute(List<Country> result) {
                 task = null;
-                countryList.addAll(result);
-                countryAdapter.notifyDataSetChanged();
+                countryAdapter.setCountries(result);
+                countryAdapter.getFilter().filter(searchText.getText());
             }
         };
         task.execute(this);
@@ -64,10 +64,15 @@ import com.auth0.android.lock.events.DatabaseSignUpEvent;
 import com.auth0.android.lock.events.FetchApplicationEvent;
 import com.auth0.android.lock.events.LockMessageEvent;
 import com.auth0.android.lock.events.OAuthLoginEvent;
+import com.auth0.android.lock.internal.ConnectionWarmer;
+import com.auth0.android.lock.internal.LockExecutor;
+import com.auth0.android.lock.internal.configuration.ApplicationCache;
 import com.auth0.android.lock.internal.configuration.ApplicationFetcher;
 import com.auth0.android.lock.internal.configuration.Configuration;
+import com.auth0.android.lock.internal.configuration.ConfigurationCache;
 import com.auth0.android.lock.internal.configuration.Connection;
 import com.auth0.android.lock.internal.configuration.Options;
+import com.auth0.android.lock.internal.configuration.RetryPolicy;
 import com.auth0.android.lock.provider.AuthResolver;
 import com.auth0.android.lock.views.ClassicLockView;
 import com.auth0.android.provider.AuthCallback;
@@ -154,6 +159,7 @@ public class LockActivity extends AppCompatActivity implements ActivityCompat.On
         signUpErrorBuilder = new SignUpErrorMessageBuilder();
 
         lockBus.post(new FetchApplicationEvent());
+        ConnectionWarmer.warmUp(options.getAccount());
     }
 
     private boolean hasValidLaunchConfig() {
@@ -298,6 +304,19 @@ public class LockActivity extends AppCompatActivity implements ActivityCompat.On
         }
     }
 
+    @Override
+    protected void onDestroy() {
+        if (applicationFetcher != null) {
+            //the cached information may still be revalidated and delivered again
+            applicationFetcher.cancel();
+            applicationFetcher = null;
+        }
+        if (handler != null) {
+            handler.removeCallbacksAndMessages(null);
+        }
+        super.onDestroy();
+    }
+
     @Override
     protected void onActivityResult(int requestCode, int resultCode, @Nullable Intent data) {
         switch (requestCode) {
@@ -332,9 +351,9 @@ public class LockActivity extends AppCompatActivity implements ActivityCompat.On
 
     @Subscribe
     public void onFetchApplicationRequest(@NonNull FetchApplicationEvent event) {
-        if (applicationFetcher == null) {
+        if (applicationFetcher == null || applicationFetcher.isFinished()) {
             Auth0 account = options.getAccount();
-            applicationFetcher = new ApplicationFetcher(account);
+            applicationFetcher = new ApplicationFetcher(account, ApplicationCache.from(this, options), RetryPolicy.from(options), LockExecutor.getExecutor(options.getExecutorId()));
             applicationFetcher.fetch(applicationCallback);
         }
     }
@@ -499,15 +518,13 @@ public class LockActivity extends AppCompatActivity implements ActivityCompat.On
     private final Callback<List<Connection>, Auth0Exception> applicationCallback = new Callback<List<Connection>, Auth0Exception>() {
         @Override
         public void onSuccess(@Nullable final List<Connection> connections) {
-            configuration = new Configuration(connections, options);
+            configuration = ConfigurationCache.getInstance().obtain(connections, options);
             handler.post(() -> lockView.configure(configuration));
-            applicationFetcher = null;
         }
 
         @Override
         public void onFailure(@NonNull final Auth0Exception error) {
             Log.e(TAG, "Failed to fetch the application: " + error.getMessage(), error);
-            applicationFetcher = null;
             handler.post(() -> lockView.configure(null));
         }
     };
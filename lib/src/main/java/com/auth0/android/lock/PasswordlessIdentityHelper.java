@@ -7,6 +7,7 @@ import androidx.annotation.Nullable;
 
 import com.auth0.android.lock.adapters.Country;
 import com.auth0.android.lock.internal.configuration.PasswordlessMode;
+import com.auth0.android.lock.utils.CountryRepository;
 
 import static com.auth0.android.lock.internal.configuration.PasswordlessMode.DISABLED;
 import static com.auth0.android.lock.internal.configuration.PasswordlessMode.EMAIL_CODE;
@@ -46,7 +47,10 @@ class PasswordlessIdentityHelper {
         if (countryInfo != null) {
             String isoCode = countryInfo.split(COUNTRY_DATA_DIV)[0];
             String dialCode = countryInfo.split(COUNTRY_DATA_DIV)[1];
-            country = new Country(isoCode, dialCode);
+            country = CountryRepository.getInstance().findByIsoCode(isoCode);
+            if (country == null || !country.getIsoCode().equals(isoCode) || !country.getDialCode().equals(dialCode)) {
+                country = new Country(isoCode, dialCode);
+            }
         }
         return country;
     }
@@ -38,23 +38,32 @@ import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 import com.auth0.android.Auth0;
 import com.auth0.android.authentication.AuthenticationException;
 import com.auth0.android.lock.LockCallback.LockEvent;
+import com.auth0.android.lock.internal.LockExecutor;
+import com.auth0.android.lock.internal.configuration.ApplicationCache;
+import com.auth0.android.lock.internal.configuration.ApplicationFetcher;
 import com.auth0.android.lock.internal.configuration.Options;
+import com.auth0.android.lock.internal.configuration.RetryPolicy;
 import com.auth0.android.lock.internal.configuration.Theme;
 import com.auth0.android.lock.provider.AuthResolver;
 import com.auth0.android.provider.AuthHandler;
 import com.auth0.android.provider.CustomTabsOptions;
+import com.auth0.android.request.NetworkingClient;
 import com.auth0.android.util.Auth0UserAgent;
 
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 public class PasswordlessLock {
 
     private static final String TAG = PasswordlessLock.class.getSimpleName();
     private final LockCallback callback;
     private final Options options;
+    @Nullable
+    private final Executor executor;
 
     /**
      * Listens to PasswordlessLockActivity broadcasts and fires the correct action on the LockCallback.
@@ -67,9 +76,11 @@ public class PasswordlessLock {
         }
     };
 
-    private PasswordlessLock(@NonNull Options options, @NonNull LockCallback callback) {
+    private PasswordlessLock(@NonNull Options options, @NonNull LockCallback callback, @Nullable Executor executor) {
         this.options = options;
         this.callback = callback;
+        //the registry of LockExecutor doesn't keep the executor alive, this instance does
+        this.executor = executor;
     }
 
     /**
@@ -125,6 +136,17 @@ public class PasswordlessLock {
         return lockIntent;
     }
 
+    /**
+     * Starts downloading the Application information in the background, so that it's already
+     * available by the time the PasswordlessLockActivity is launched. Call it early, i.e. when the app starts or
+     * when the screen that will launch Lock is created. Prefetched information is used only once.
+     *
+     * @param context a valid Context
+     */
+    public void prefetch(@NonNull Context context) {
+        new ApplicationFetcher(options.getAccount(), ApplicationCache.from(context, options), RetryPolicy.from(options), LockExecutor.getExecutor(options.getExecutorId())).prefetch();
+    }
+
     /**
      * This method ensures proper Lock's lifecycle handling. Must be called from the class
      * holding the Lock instance whenever you're done using it. i.e. in the Activity's onDestroy method.
@@ -175,6 +197,8 @@ public class PasswordlessLock {
         private static final String TAG = Builder.class.getSimpleName();
         private final Options options;
         private final LockCallback callback;
+        private NetworkingClient networkingClient;
+        private Executor executor;
 
         /**
          * Creates a new Lock.Builder instance with the given account and callback.
@@ -213,8 +237,12 @@ public class PasswordlessLock {
 
             Auth0UserAgent lockUserAgent = new Auth0UserAgent(Constants.LIBRARY_NAME, BuildConfig.VERSION_NAME, com.auth0.android.auth0.BuildConfig.VERSION_NAME);
             options.getAccount().setAuth0UserAgent(lockUserAgent);
+            if (networkingClient != null) {
+                options.setAccount(copyWithClient(options.getAccount(), networkingClient));
+            }
+            options.setExecutorId(executor != null ? LockExecutor.register(executor) : null);
 
-            final PasswordlessLock lock = new PasswordlessLock(options, callback);
+            final PasswordlessLock lock = new PasswordlessLock(options, callback, executor);
             lock.initialize(context);
             return lock;
         }
@@ -374,6 +402,107 @@ public class PasswordlessLock {
             return this;
         }
 
+        /**
+         * Uses the given Executor to fetch the Application information, both when the widget is displayed and
+         * when it's prefetched. The other background work of Lock keeps running on its own threads.
+         * The Executor only applies to the instance built by this builder, and only while that instance is
+         * referenced. If the process is recreated while the widget is displayed, the default Executor is used.
+         * By default, Lock uses its own small bounded thread pool.
+         *
+         * @param executor the Executor to make the network requests on.
+         * @return the current builder instance
+         */
+        @NonNull
+        public Builder withExecutor(@NonNull Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Keep the Application information downloaded from the CDN in a disk cache, so that Lock can be
+         * displayed right away on the next launch. Once the given duration elapses, the cached information is
+         * still used but it's revalidated in the background against the CDN.
+         * By default, the Application information is not cached.
+         *
+         * @param duration the time the cached information is considered fresh. Must be greater than zero.
+         * @param unit     the unit of the given duration.
+         * @return the current builder instance
+         * @throws IllegalArgumentException if the duration is not greater than zero, or is shorter than a millisecond.
+         */
+        @NonNull
+        public Builder withConfigurationCache(long duration, @NonNull TimeUnit unit) {
+            final long ttl = unit.toMillis(duration);
+            if (ttl <= 0) {
+                throw new IllegalArgumentException("The configuration cache duration must be greater than zero.");
+            }
+            options.setConfigurationCacheTTL(ttl);
+            return this;
+        }
+
+        /**
+         * Use the given NetworkingClient for every request made by Lock: fetching the Application information
+         * from the CDN and calling the Authentication API. Sharing a single client that pools and keeps its
+         * connections alive lets these requests reuse the connection to the tenant, so the TLS handshake is not repeated. The Auth0 account given to the builder is not modified, Lock uses a
+         * copy of it with this client.
+         * By default, the client of the Auth0 account is used.
+         *
+         * @param client the client to make the requests with.
+         * @return the current builder instance
+         */
+        @NonNull
+        public Builder withNetworkingClient(@NonNull NetworkingClient client) {
+            this.networkingClient = client;
+            return this;
+        }
+
+        /**
+         * Limit the time a request for the Application information can take, and retry the requests that fail,
+         * time out or get a server error up to the given number of times. Each retry waits an exponentially
+         * increasing delay with some randomness added. By default, a single request is made and it's only
+         * limited by the timeouts of the networking client.
+         *
+         * @param timeout    the time each request can take, or zero to not limit it.
+         * @param unit       the unit of the given timeout.
+         * @param maxRetries the number of times a failed request is retried.
+         * @return the current builder instance
+         */
+        @NonNull
+        public Builder withConfigurationRequestTimeout(long timeout, @NonNull TimeUnit unit, int maxRetries) {
+            options.setConfigurationRequestTimeout(unit.toMillis(timeout));
+            options.setConfigurationRequestRetries(maxRetries);
+            return this;
+        }
+
+        /**
+         * Send a second request for the Application information when the first one hasn't completed after the
+         * given delay, and use the response that arrives first. Choose a delay close to the slowest response times
+         * usually seen, so that only the outliers are repeated. By default, requests are not repeated.
+         *
+         * @param delay the time to wait for the first response before sending the second request.
+         * @param unit  the unit of the given delay.
+         * @return the current builder instance
+         */
+        @NonNull
+        public Builder hedgeConfigurationRequestAfter(long delay, @NonNull TimeUnit unit) {
+            options.setConfigurationHedgingDelay(unit.toMillis(delay));
+            return this;
+        }
+
+        /**
+         * Whether to display the widget right away using the last known Application information, while a fresh copy
+         * is requested to the CDN. If the fresh information differs, the widget is updated in place, rebuilding only
+         * the forms whose connections changed. The widget waits for the Application information on the very
+         * first launch, when nothing has been stored yet. The default value is false.
+         *
+         * @param enabled whether to render the last known configuration while revalidating it.
+         * @return the current builder instance
+         */
+        @NonNull
+        public Builder useStaleConfiguration(boolean enabled) {
+            options.setStaleWhileRevalidate(enabled);
+            return this;
+        }
+
         /**
          * Specify style and other additional configuration for when the Web Auth flow is used with Custom Tabs.
          *
@@ -417,5 +546,12 @@ public class PasswordlessLock {
             }
             return this;
         }
+
+        @NonNull
+        private static Auth0 copyWithClient(@NonNull Auth0 account, @NonNull NetworkingClient client) {
+            final Auth0 copy = new Auth0(account.getClientId(), account.getDomainUrl(), account.getConfigurationUrl());
+            copy.setNetworkingClient(client);
+            return copy;
+        }
     }
 }
@@ -61,11 +61,16 @@ import com.auth0.android.lock.events.CountryCodeChangeEvent;
 import com.auth0.android.lock.events.FetchApplicationEvent;
 import com.auth0.android.lock.events.OAuthLoginEvent;
 import com.auth0.android.lock.events.PasswordlessLoginEvent;
+import com.auth0.android.lock.internal.ConnectionWarmer;
+import com.auth0.android.lock.internal.LockExecutor;
+import com.auth0.android.lock.internal.configuration.ApplicationCache;
 import com.auth0.android.lock.internal.configuration.ApplicationFetcher;
 import com.auth0.android.lock.internal.configuration.Configuration;
+import com.auth0.android.lock.internal.configuration.ConfigurationCache;
 import com.auth0.android.lock.internal.configuration.Connection;
 import com.auth0.android.lock.internal.configuration.Options;
 import com.auth0.android.lock.internal.configuration.PasswordlessMode;
+import com.auth0.android.lock.internal.configuration.RetryPolicy;
 import com.auth0.android.lock.provider.AuthResolver;
 import com.auth0.android.lock.views.PasswordlessLockView;
 import com.auth0.android.provider.AuthCallback;
@@ -152,6 +157,7 @@ public class PasswordlessLockActivity extends AppCompatActivity implements Activ
             loginErrorBuilder = new LoginErrorMessageBuilder(R.string.com_auth0_lock_passwordless_link_request_error_message, R.string.com_auth0_lock_passwordless_login_error_invalid_credentials_message);
         }
         lockBus.post(new FetchApplicationEvent());
+        ConnectionWarmer.warmUp(options.getAccount());
     }
 
     private boolean hasValidLaunchConfig() {
@@ -300,6 +306,19 @@ public class PasswordlessLockActivity extends AppCompatActivity implements Activ
         }
     }
 
+    @Override
+    protected void onDestroy() {
+        if (applicationFetcher != null) {
+            //the cached information may still be revalidated and delivered again
+            applicationFetcher.cancel();
+            applicationFetcher = null;
+        }
+        if (handler != null) {
+            handler.removeCallbacksAndMessages(null);
+        }
+        super.onDestroy();
+    }
+
     @Override
     protected void onActivityResult(int requestCode, int resultCode, @Nullable Intent data) {
         switch (requestCode) {
@@ -373,9 +392,9 @@ public class PasswordlessLockActivity extends AppCompatActivity implements Activ
 
     @Subscribe
     public void onFetchApplicationRequest(@NonNull FetchApplicationEvent event) {
-        if (applicationFetcher == null) {
+        if (applicationFetcher == null || applicationFetcher.isFinished()) {
             Auth0 account = options.getAccount();
-            applicationFetcher = new ApplicationFetcher(account);
+            applicationFetcher = new ApplicationFetcher(account, ApplicationCache.from(this, options), RetryPolicy.from(options), LockExecutor.getExecutor(options.getExecutorId()));
             applicationFetcher.fetch(applicationCallback);
         }
     }
@@ -453,19 +472,21 @@ public class PasswordlessLockActivity extends AppCompatActivity implements Activ
     private final Callback<List<Connection>, Auth0Exception> applicationCallback = new Callback<List<Connection>, Auth0Exception>() {
         @Override
         public void onSuccess(@Nullable final List<Connection> connections) {
-            configuration = new Configuration(connections, options);
+            //a stale configuration may be followed by the revalidated one, which must not submit the form again
+            final boolean firstConfiguration = configuration == null;
+            configuration = ConfigurationCache.getInstance().obtain(connections, options);
             identityHelper = new PasswordlessIdentityHelper(PasswordlessLockActivity.this, configuration.getPasswordlessMode());
             handler.post(() -> {
                 lockView.configure(configuration);
-                reloadRecentPasswordlessData(true);
+                if (firstConfiguration) {
+                    reloadRecentPasswordlessData(true);
+                }
             });
-            applicationFetcher = null;
         }
 
         @Override
         public void onFailure(@NonNull final Auth0Exception error) {
             Log.e(TAG, "Failed to fetch the application: " + error.getMessage(), error);
-            applicationFetcher = null;
             handler.post(() -> lockView.configure(null));
         }
     };
@@ -53,8 +53,36 @@ public class Country implements Comparable<Country> {
         return locale.getDisplayName();
     }
 
+    /**
+     * Sorts the countries by their display name. Countries with the same name are sorted by their codes, so
+     * that this is consistent with {@link #equals(Object)}.
+     */
     @Override
     public int compareTo(@NonNull Country another) {
-        return getDisplayName().compareToIgnoreCase(another.getDisplayName());
+        int result = getDisplayName().compareToIgnoreCase(another.getDisplayName());
+        if (result == 0) {
+            result = isoCode.compareTo(another.isoCode);
+        }
+        if (result == 0) {
+            result = dialCode.compareTo(another.dialCode);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Country country = (Country) o;
+        return isoCode.equals(country.isoCode) && dialCode.equals(country.dialCode);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * isoCode.hashCode() + dialCode.hashCode();
     }
 }
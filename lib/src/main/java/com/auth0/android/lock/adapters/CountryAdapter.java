@@ -25,85 +25,164 @@
 package com.auth0.android.lock.adapters;
 
 import android.content.Context;
+import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.BaseAdapter;
 import android.widget.Filter;
+import android.widget.Filterable;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
-import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.AsyncDifferConfig;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
 
 import com.auth0.android.lock.R;
+import com.auth0.android.lock.internal.LockExecutor;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-public class CountryAdapter extends BaseAdapter {
+/**
+ * RecyclerView adapter for the country picker. Filtering submits the matching countries to an
+ * AsyncListDiffer, so the differences are computed in the background and only the rows that
+ * changed are animated and bound again.
+ * <p>
+ * This adapter used to extend {@link android.widget.BaseAdapter}. It now extends {@link ListAdapter}
+ * and must be set on a {@link RecyclerView} instead of a ListView.
+ */
+public class CountryAdapter extends ListAdapter<Country, CountryAdapter.ViewHolder> implements Filterable {
+
+    private static final String TAG = CountryAdapter.class.getSimpleName();
+
+    private static final DiffUtil.ItemCallback<Country> DIFF_CALLBACK = new DiffUtil.ItemCallback<Country>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Country oldItem, @NonNull Country newItem) {
+            return oldItem.getIsoCode().equals(newItem.getIsoCode());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull Country oldItem, @NonNull Country newItem) {
+            return oldItem.equals(newItem);
+        }
+    };
 
     private final CountryFilter filter;
     private final Context context;
-    protected @NonNull
-    List<Country> allData;
-    protected @NonNull
-    List<Country> filteredData;
+    private OnCountrySelectedListener listener;
+    @NonNull
+    private volatile List<Country> allData;
 
-    public CountryAdapter(@NonNull Context context, @NonNull List<Country> countries) {
+    public CountryAdapter(@NonNull Context context) {
+        super(new AsyncDifferConfig.Builder<>(DIFF_CALLBACK)
+                .setBackgroundThreadExecutor(LockExecutor.getDiffExecutor())
+                .build());
         this.context = context;
-        this.allData = countries;
-        this.filteredData = countries;
+        this.allData = Collections.emptyList();
         this.filter = new CountryFilter();
     }
 
-    @Override
-    public int getCount() {
-        return filteredData.size();
+    /**
+     * Creates the adapter and displays the given countries.
+     *
+     * @param context   the context used to inflate the rows.
+     * @param countries the full list of countries.
+     * @deprecated use {@link #CountryAdapter(Context)} and {@link #setCountries(List)} instead.
+     */
+    @Deprecated
+    public CountryAdapter(@NonNull Context context, @NonNull List<Country> countries) {
+        this(context);
+        setCountries(countries);
     }
 
-    @Nullable
-    @Override
-    public Country getItem(int position) {
-        return filteredData.get(position);
+    /**
+     * Sets the countries to display, replacing any previous filter results.
+     *
+     * @param countries the full list of countries.
+     */
+    public void setCountries(@NonNull List<Country> countries) {
+        this.allData = countries;
+        submitList(countries);
     }
 
-    @Override
-    public long getItemId(int position) {
-        return position;
+    /**
+     * Sets the listener to notify when the user picks a country.
+     *
+     * @param listener the listener
+     */
+    public void setOnCountrySelectedListener(@NonNull OnCountrySelectedListener listener) {
+        this.listener = listener;
     }
 
     @NonNull
     @Override
-    public View getView(int position, @Nullable View convertView, @NonNull ViewGroup parent) {
-        if (convertView == null) {
-            convertView = LayoutInflater.from(context).inflate(R.layout.com_auth0_lock_passwordless_item_country_code, parent, false);
-        }
+    public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View view = LayoutInflater.from(context).inflate(R.layout.com_auth0_lock_passwordless_item_country_code, parent, false);
+        return new ViewHolder(view);
+    }
 
-        TextView countryNameTextView = convertView.findViewById(R.id.com_auth0_lock_passwordless_sms_country_name_text_view);
-        TextView countryCodeTextView = convertView.findViewById(R.id.com_auth0_lock_passwordless_sms_country_code_text_view);
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
         Country country = getItem(position);
-        countryNameTextView.setText(country.getDisplayName());
-        countryCodeTextView.setText(country.getDialCode());
-        return convertView;
+        holder.countryName.setText(country.getDisplayName());
+        holder.countryCode.setText(country.getDialCode());
     }
 
     @NonNull
+    @Override
     public Filter getFilter() {
         return filter;
     }
 
+    public class ViewHolder extends RecyclerView.ViewHolder implements View.OnClickListener {
+        final TextView countryName;
+        final TextView countryCode;
+
+        ViewHolder(@NonNull View v) {
+            super(v);
+            countryName = v.findViewById(R.id.com_auth0_lock_passwordless_sms_country_name_text_view);
+            countryCode = v.findViewById(R.id.com_auth0_lock_passwordless_sms_country_code_text_view);
+            v.setOnClickListener(this);
+        }
+
+        @Override
+        public void onClick(@NonNull View view) {
+            final int position = getAdapterPosition();
+            if (position == RecyclerView.NO_POSITION) {
+                return;
+            }
+            if (listener != null) {
+                listener.onCountrySelected(getItem(position));
+            } else {
+                Log.w(TAG, "No listener was configured");
+            }
+        }
+    }
+
+    public interface OnCountrySelectedListener {
+        /**
+         * Called when the user clicks a country of the list.
+         *
+         * @param country the selected country.
+         */
+        void onCountrySelected(@NonNull Country country);
+    }
+
     private class CountryFilter extends Filter {
 
+        private CountrySearchIndex index;
+
         @Override
         protected FilterResults performFiltering(CharSequence constraint) {
-            String search = constraint.toString().toLowerCase();
-            FilterResults results = new FilterResults();
-            List<Country> filtered = new ArrayList<>();
-            for (Country country : allData) {
-                if (country.getDisplayName().toLowerCase().contains(search) || country.getIsoCode().toLowerCase().contains(search)) {
-                    filtered.add(country);
-                }
+            final List<Country> countries = allData;
+            if (index == null || index.getCountries() != countries) {
+                //the countries are loaded after the adapter is created, index them again when they change
+                index = new CountrySearchIndex(countries);
             }
+            FilterResults results = new FilterResults();
+            List<Country> filtered = index.search(constraint);
             results.values = filtered;
             results.count = filtered.size();
             return results;
@@ -112,8 +191,7 @@ public class CountryAdapter extends BaseAdapter {
         @Override
         @SuppressWarnings("unchecked")
         protected void publishResults(CharSequence constraint, FilterResults results) {
-            filteredData = (List<Country>) results.values;
-            notifyDataSetChanged();
+            submitList((List<Country>) results.values);
         }
     }
 }
@@ -0,0 +1,176 @@
+/*
+ * CountrySearchIndex.java
+ *
+ * Copyright (c) 2015 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.adapters;
+
+import androidx.annotation.NonNull;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Prefix index over a list of countries. A country matches a query when its ISO code, its dial code
+ * (with or without the leading "+") or any word of its display name starts with the query. Names are
+ * compared ignoring case, accents, spaces and punctuation, so "cote d'iv" finds "Côte d’Ivoire".
+ * <p>
+ * The index is immutable once created, but a single instance must not be queried from more than one thread at a time.
+ */
+final class CountrySearchIndex {
+
+    private final List<Country> countries;
+    private final String[] keys;
+    private final int[] owners;
+    private final int[] matchStamps;
+    private int stamp;
+
+    CountrySearchIndex(@NonNull List<Country> countries) {
+        this.countries = countries;
+        final List<Entry> entries = new ArrayList<>(countries.size() * 4);
+        for (int i = 0; i < countries.size(); i++) {
+            final Country country = countries.get(i);
+            addNameEntries(entries, country.getDisplayName(), i);
+            entries.add(new Entry(normalize(country.getIsoCode()), i));
+            final String dialCode = normalize(country.getDialCode());
+            entries.add(new Entry(dialCode, i));
+            if (dialCode.startsWith("+")) {
+                entries.add(new Entry(dialCode.substring(1), i));
+            }
+        }
+        Collections.sort(entries);
+        keys = new String[entries.size()];
+        owners = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = entries.get(i).key;
+            owners[i] = entries.get(i).owner;
+        }
+        matchStamps = new int[countries.size()];
+    }
+
+    /**
+     * Getter for the list of countries this index was created for.
+     *
+     * @return the indexed countries.
+     */
+    @NonNull
+    List<Country> getCountries() {
+        return countries;
+    }
+
+    /**
+     * Finds the countries matching the given query.
+     *
+     * @param query the text to search for.
+     * @return the matching countries, in the same order they had in the indexed list.
+     */
+    @NonNull
+    List<Country> search(@NonNull CharSequence query) {
+        final String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return countries;
+        }
+        if (++stamp == 0) {
+            //the stamp wrapped around, forget the old marks
+            Arrays.fill(matchStamps, 0);
+            stamp = 1;
+        }
+        int first = Arrays.binarySearch(keys, prefix);
+        if (first < 0) {
+            first = -first - 1;
+        }
+        int matches = 0;
+        for (int i = first; i < keys.length && keys[i].startsWith(prefix); i++) {
+            if (matchStamps[owners[i]] != stamp) {
+                matchStamps[owners[i]] = stamp;
+                matches++;
+            }
+        }
+        if (matches == 0) {
+            return Collections.emptyList();
+        }
+        if (matches == countries.size()) {
+            return countries;
+        }
+        final Country[] result = new Country[matches];
+        for (int i = 0, j = 0; j < matches; i++) {
+            if (matchStamps[i] == stamp) {
+                result[j++] = countries.get(i);
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    private static void addNameEntries(@NonNull List<Entry> entries, @NonNull String displayName, int owner) {
+        final String name = displayName.toLowerCase(Locale.ROOT);
+        boolean wordStart = true;
+        for (int i = 0; i < name.length(); i++) {
+            final boolean letterOrDigit = Character.isLetterOrDigit(name.charAt(i));
+            if (wordStart && letterOrDigit) {
+                final String key = normalize(name.substring(i));
+                if (!key.isEmpty()) {
+                    entries.add(new Entry(key, owner));
+                }
+            }
+            wordStart = !letterOrDigit;
+        }
+    }
+
+    /**
+     * Lower-cases the text and removes accents, spaces and any punctuation other than the "+" sign.
+     */
+    @NonNull
+    static String normalize(@NonNull CharSequence text) {
+        final StringBuilder sb = new StringBuilder(text.length());
+        boolean ascii = true;
+        for (int i = 0; i < text.length() && ascii; i++) {
+            ascii = text.charAt(i) < 128;
+        }
+        final CharSequence folded = ascii ? text : Normalizer.normalize(text, Normalizer.Form.NFD);
+        for (int i = 0; i < folded.length(); i++) {
+            final char c = folded.charAt(i);
+            if (c == '+' || Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static class Entry implements Comparable<Entry> {
+        final String key;
+        final int owner;
+
+        Entry(@NonNull String key, int owner) {
+            this.key = key;
+            this.owner = owner;
+        }
+
+        @Override
+        public int compareTo(@NonNull Entry another) {
+            return key.compareTo(another.key);
+        }
+    }
+}
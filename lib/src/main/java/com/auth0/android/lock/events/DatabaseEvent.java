@@ -27,7 +27,7 @@ package com.auth0.android.lock.events;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import com.auth0.android.lock.views.ValidatedInputView;
+import com.auth0.android.lock.utils.InputValidators;
 
 public class DatabaseEvent {
     private String username;
@@ -61,10 +61,10 @@ public class DatabaseEvent {
     }
 
     private boolean isUsername(String input) {
-        return input != null && input.matches(ValidatedInputView.USERNAME_REGEX);
+        return InputValidators.isUsername(input);
     }
 
     private boolean isEmail(String input) {
-        return input != null && input.matches(ValidatedInputView.EMAIL_REGEX);
+        return InputValidators.isEmail(input);
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * ConnectionWarmer.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.internal;
+
+import android.net.Uri;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import com.auth0.android.Auth0;
+import com.auth0.android.request.HttpMethod;
+import com.auth0.android.request.RequestOptions;
+import com.auth0.android.request.ServerResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Prepares the connections to the Auth0 domains in the background, so that the first authentication request
+ * doesn't pay for the DNS lookup and the TCP and TLS handshakes after the user submits the form.
+ * The configuration domain is only resolved, as the Application information request connects to it anyway.
+ * The Auth0 domain is connected to by making a small request with the networking client of the account,
+ * which keeps the connection open in its pool. The work runs on a low priority thread of its own, so it never
+ * delays the Application information request.
+ * <p>
+ * Disclaimer: The classes in the internal package may change in the future. Don't use them directly.
+ */
+public final class ConnectionWarmer {
+
+    private static final String TAG = ConnectionWarmer.class.getSimpleName();
+    private static final long MIN_INTERVAL = 60 * 1000;
+    private static final Map<String, Long> lastWarmUps = new HashMap<>();
+
+    private ConnectionWarmer() {
+    }
+
+    /**
+     * Warms up the connections to the domains of the given account in the background.
+     * Domains that were warmed up less than a minute ago are skipped.
+     *
+     * @param account the Application details with the domains to connect to.
+     */
+    public static void warmUp(@NonNull final Auth0 account) {
+        final String domainUrl = account.getDomainUrl();
+        final String configurationUrl = account.getConfigurationUrl();
+        if (domainUrl == null || wasWarmedUpRecently(domainUrl)) {
+            return;
+        }
+        LockExecutor.getWarmUpExecutor().execute(() -> {
+            //recorded once running, as the executor may drop the task. It also skips the duplicates queued meanwhile
+            if (!shouldWarmUp(domainUrl)) {
+                return;
+            }
+            final String domainHost = Uri.parse(domainUrl).getHost();
+            final String configurationHost = configurationUrl != null ? Uri.parse(configurationUrl).getHost() : null;
+            if (configurationHost != null && !configurationHost.equals(domainHost)) {
+                resolve(configurationHost);
+            }
+            connect(account, domainUrl);
+        });
+    }
+
+    private static boolean wasWarmedUpRecently(@NonNull String domainUrl) {
+        synchronized (lastWarmUps) {
+            final Long last = lastWarmUps.get(domainUrl);
+            return last != null && System.currentTimeMillis() - last < MIN_INTERVAL;
+        }
+    }
+
+    private static boolean shouldWarmUp(@NonNull String domainUrl) {
+        synchronized (lastWarmUps) {
+            if (wasWarmedUpRecently(domainUrl)) {
+                return false;
+            }
+            lastWarmUps.put(domainUrl, System.currentTimeMillis());
+            return true;
+        }
+    }
+
+    private static void resolve(@NonNull String host) {
+        try {
+            InetAddress.getAllByName(host);
+        } catch (UnknownHostException e) {
+            Log.d(TAG, "Could not resolve " + host, e);
+        }
+    }
+
+    private static void connect(@NonNull Auth0 account, @NonNull String domainUrl) {
+        final String url = Uri.parse(domainUrl).buildUpon()
+                .appendPath(".well-known")
+                .appendPath("jwks.json")
+                .build().toString();
+        try {
+            final ServerResponse response = account.getNetworkingClient().load(url, new RequestOptions(HttpMethod.GET.INSTANCE));
+            //the body is consumed so the connection can go back to the pool
+            try (InputStream body = response.getBody()) {
+                drain(body);
+            }
+            Log.v(TAG, "Connection to the Auth0 domain is ready");
+        } catch (IOException | RuntimeException e) {
+            Log.d(TAG, "Could not connect to the Auth0 domain in advance", e);
+        }
+    }
+
+    private static void drain(@NonNull InputStream is) throws IOException {
+        final byte[] buffer = new byte[1024];
+        //noinspection StatementWithEmptyBody
+        while (is.read(buffer) != -1) {
+        }
+    }
+
+    @VisibleForTesting
+    static void clearWarmUps() {
+        synchronized (lastWarmUps) {
+            lastWarmUps.clear();
+        }
+    }
+}
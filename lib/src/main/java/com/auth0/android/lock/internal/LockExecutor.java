@@ -0,0 +1,281 @@
+/*
+ * LockExecutor.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the Executors used by Lock to run its background work. The network requests, like fetching the
+ * Application information, run on a small pool owned by Lock unless the developer gave one to the Lock
+ * builder. The local work, like loading and diffing the list of countries, runs on separate workers so it
+ * never waits behind a slow request. All of them have a bounded queue.
+ * <p>
+ * Disclaimer: The classes in the internal package may change in the future. Don't use them directly.
+ */
+public final class LockExecutor {
+
+    private static final int MAX_THREADS = 3;
+    private static final int MAX_QUEUED_TASKS = 16;
+    private static final long KEEP_ALIVE_SECONDS = 30;
+    private static final Map<String, WeakReference<Executor>> registered = new HashMap<>();
+
+    private static Executor defaultExecutor;
+    private static Executor backgroundExecutor;
+    private static Executor diffExecutor;
+    private static Executor validationExecutor;
+    private static Executor warmUpExecutor;
+    private static Executor executor;
+
+    private LockExecutor() {
+    }
+
+    /**
+     * Replaces every Executor of Lock, including the ones registered by the developer. Tests can use a direct
+     * executor to run the background work synchronously.
+     *
+     * @param executor the Executor to use, or null to restore the default ones.
+     */
+    public static synchronized void setExecutor(@Nullable Executor executor) {
+        LockExecutor.executor = executor;
+    }
+
+    /**
+     * Getter for the Executor that runs Lock's network requests.
+     *
+     * @return the Executor set with {@link #setExecutor(Executor)}, or the default bounded pool.
+     */
+    @NonNull
+    public static synchronized Executor getExecutor() {
+        if (executor != null) {
+            return executor;
+        }
+        if (defaultExecutor == null) {
+            defaultExecutor = createNetworkPool();
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * Getter for the Executor registered with the given id. The registry only lives in memory and doesn't keep the
+     * Executors alive, so after the process is recreated or once the Lock instance that registered it is gone,
+     * the id resolves to the default Executor instead.
+     *
+     * @param id the id returned by {@link #register(Executor)}, or null.
+     * @return the registered Executor, or the one returned by {@link #getExecutor()} if it's not available.
+     */
+    @NonNull
+    public static Executor getExecutor(@Nullable String id) {
+        Executor found = null;
+        if (id != null) {
+            synchronized (registered) {
+                final WeakReference<Executor> reference = registered.get(id);
+                found = reference != null ? reference.get() : null;
+            }
+        }
+        synchronized (LockExecutor.class) {
+            return found != null && executor == null ? found : getExecutor();
+        }
+    }
+
+    /**
+     * Registers an Executor given by the developer so that it can be found from the id kept in the Options.
+     * The caller must hold a reference to the Executor for as long as it's meant to be used.
+     *
+     * @param executor the Executor to register.
+     * @return a unique id to look it up with {@link #getExecutor(String)}.
+     */
+    @NonNull
+    public static String register(@NonNull Executor executor) {
+        final String id = UUID.randomUUID().toString();
+        synchronized (registered) {
+            final Iterator<WeakReference<Executor>> it = registered.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().get() == null) {
+                    it.remove();
+                }
+            }
+            registered.put(id, new WeakReference<>(executor));
+        }
+        return id;
+    }
+
+    /**
+     * Getter for the Executor that runs Lock's local background work, like reading lists.
+     * When too much work is queued, the calling thread runs it instead.
+     *
+     * @return the Executor set with {@link #setExecutor(Executor)}, or a single background worker.
+     */
+    @NonNull
+    public static synchronized Executor getBackgroundExecutor() {
+        if (executor != null) {
+            return executor;
+        }
+        if (backgroundExecutor == null) {
+            backgroundExecutor = createPool(1, "Lock-Background-", MAX_QUEUED_TASKS, new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+        return backgroundExecutor;
+    }
+
+    /**
+     * Getter for the Executor that computes the differences between two versions of a list, like the filtered countries.
+     * Unlike {@link #getBackgroundExecutor()}, it never runs the work on the calling thread, which is usually the main
+     * one. When too many diffs are queued, the oldest is dropped, as only the latest diff of a list is ever displayed.
+     *
+     * @return the Executor set with {@link #setExecutor(Executor)}, or a single diff worker.
+     */
+    @NonNull
+    public static synchronized Executor getDiffExecutor() {
+        if (executor != null) {
+            return executor;
+        }
+        if (diffExecutor == null) {
+            diffExecutor = createDiffPool();
+        }
+        return diffExecutor;
+    }
+
+    /**
+     * Getter for the Executor that validates the input fields while the user types. It's a single worker that
+     * never waits behind network or list work. Each field keeps at most one task queued and lets it pick the
+     * latest text when it runs, so the queue only grows with the number of fields on screen.
+     *
+     * @return the Executor set with {@link #setExecutor(Executor)}, or a single validation worker.
+     */
+    @NonNull
+    public static synchronized Executor getValidationExecutor() {
+        if (executor != null) {
+            return executor;
+        }
+        if (validationExecutor == null) {
+            validationExecutor = createPool(1, "Lock-Validation-", Integer.MAX_VALUE, new ThreadPoolExecutor.AbortPolicy());
+        }
+        return validationExecutor;
+    }
+
+    /**
+     * Getter for the Executor that runs optional work that only prepares for later, like opening connections in
+     * advance. It's a single low priority worker, so this work never takes a thread from the requests the user is
+     * waiting for. When too much work is queued, the new tasks are dropped.
+     *
+     * @return the Executor set with {@link #setExecutor(Executor)}, or a single low priority worker.
+     */
+    @NonNull
+    public static synchronized Executor getWarmUpExecutor() {
+        if (executor != null) {
+            return executor;
+        }
+        if (warmUpExecutor == null) {
+            warmUpExecutor = createPool(1, "Lock-WarmUp-", Thread.MIN_PRIORITY, MAX_QUEUED_TASKS, new ThreadPoolExecutor.DiscardPolicy());
+        }
+        return warmUpExecutor;
+    }
+
+    /**
+     * Runs the given task on the network Executor.
+     *
+     * @param task the work to run in the background.
+     * @return a Future that can be used to cancel the task.
+     * @throws RejectedExecutionException if too many tasks are already queued.
+     */
+    @NonNull
+    public static Future<?> submit(@NonNull Runnable task) {
+        return submit(getExecutor(), task);
+    }
+
+    /**
+     * Runs the given task on the given Executor.
+     *
+     * @param executor the Executor to run the task on.
+     * @param task     the work to run in the background.
+     * @return a Future that can be used to cancel the task.
+     * @throws RejectedExecutionException if the Executor can't accept the task.
+     */
+    @NonNull
+    public static Future<?> submit(@NonNull Executor executor, @NonNull Runnable task) {
+        final FutureTask<Void> future = new FutureTask<>(task, null);
+        executor.execute(future);
+        return future;
+    }
+
+    @VisibleForTesting
+    @NonNull
+    static ThreadPoolExecutor createNetworkPool() {
+        return createPool(MAX_THREADS, "Lock-Worker-", MAX_QUEUED_TASKS, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @VisibleForTesting
+    @NonNull
+    static ThreadPoolExecutor createDiffPool() {
+        return createPool(1, "Lock-Diff-", MAX_QUEUED_TASKS, new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    private static ThreadPoolExecutor createPool(int threads, @NonNull String name, int queueCapacity, @NonNull RejectedExecutionHandler handler) {
+        return createPool(threads, name, Thread.NORM_PRIORITY, queueCapacity, handler);
+    }
+
+    private static ThreadPoolExecutor createPool(int threads, @NonNull String name, int priority, int queueCapacity, @NonNull RejectedExecutionHandler handler) {
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), new LockThreadFactory(name, priority), handler);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static class LockThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger(1);
+        private final String name;
+        private final int priority;
+
+        LockThreadFactory(@NonNull String name, int priority) {
+            this.name = name;
+            this.priority = priority;
+        }
+
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            final Thread thread = new Thread(runnable, name + count.getAndIncrement());
+            thread.setDaemon(true);
+            thread.setPriority(priority);
+            return thread;
+        }
+    }
+}
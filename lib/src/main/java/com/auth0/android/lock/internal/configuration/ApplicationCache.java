@@ -0,0 +1,242 @@
+/*
+ * ApplicationCache.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.internal.configuration;
+
+import android.content.Context;
+import android.util.Base64;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.auth0.android.Auth0;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Disk cache for the Application information downloaded by the {@link ApplicationFetcher}.
+ * Entries are keyed by the Auth0 domain and client id, and keep the ETag and Last-Modified
+ * values received from the CDN so they can be revalidated once they expire.
+ * <p>
+ * Disclaimer: The classes in the internal package may change in the future. Don't use them directly.
+ */
+public class ApplicationCache {
+
+    private static final String TAG = ApplicationCache.class.getSimpleName();
+    private static final String CACHE_DIRECTORY = "com.auth0.android.lock";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int FORMAT_VERSION = 1;
+
+    private final File directory;
+    private final long ttl;
+    private final boolean staleWhileRevalidate;
+
+    @VisibleForTesting
+    ApplicationCache(@NonNull File directory, long ttl) {
+        this(directory, ttl, false);
+    }
+
+    @VisibleForTesting
+    ApplicationCache(@NonNull File directory, long ttl, boolean staleWhileRevalidate) {
+        this.directory = directory;
+        this.ttl = ttl;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    /**
+     * Creates a new cache in the application's cache directory, using the time to live defined in the Options.
+     * When the stale-while-revalidate mode is enabled without a time to live, every cached entry is revalidated.
+     *
+     * @param context a valid Context
+     * @param options the Lock options
+     * @return a new cache instance, or null if the cache was not enabled in the Options.
+     */
+    @Nullable
+    public static ApplicationCache from(@NonNull Context context, @NonNull Options options) {
+        final long ttl = Math.max(0, options.getConfigurationCacheTTL());
+        if (ttl == 0 && !options.staleWhileRevalidate()) {
+            return null;
+        }
+        return new ApplicationCache(new File(context.getCacheDir(), CACHE_DIRECTORY), ttl, options.staleWhileRevalidate());
+    }
+
+    /**
+     * Reads the cached entry for the given account.
+     *
+     * @param account the Application details used as key
+     * @return the cached entry, or null if there is no entry or it could not be read.
+     */
+    @Nullable
+    Entry read(@NonNull Auth0 account) {
+        final File file = fileFor(account);
+        if (!file.exists()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                Log.d(TAG, "Ignoring a cached entry written with a different format version");
+                return null;
+            }
+            final long storedAt = in.readLong();
+            final String eTag = readNullableString(in);
+            final String lastModified = readNullableString(in);
+            final int length = in.readInt();
+            if (length < 0 || length > file.length()) {
+                Log.w(TAG, "Ignoring a corrupt cached entry");
+                return null;
+            }
+            final byte[] body = new byte[length];
+            in.readFully(body);
+            return new Entry(body, eTag, lastModified, storedAt);
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to read the cached Application info", e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the given entry for the account, replacing any previous one.
+     *
+     * @param account the Application details used as key
+     * @param entry   the entry to store
+     */
+    void write(@NonNull Auth0 account, @NonNull Entry entry) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Log.w(TAG, "Could not create the cache directory " + directory);
+            return;
+        }
+        final File file = fileFor(account);
+        final File temp = new File(directory, file.getName() + TEMP_FILE_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(temp))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(entry.storedAt);
+            writeNullableString(out, entry.eTag);
+            writeNullableString(out, entry.lastModified);
+            out.writeInt(entry.body.length);
+            out.write(entry.body);
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to write the Application info to the cache", e);
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            return;
+        }
+        if (!temp.renameTo(file)) {
+            Log.w(TAG, "Failed to move the Application info into the cache");
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+        }
+    }
+
+    /**
+     * Removes the cached entry of the given account, if any.
+     *
+     * @param account the Application details used as key
+     */
+    void remove(@NonNull Auth0 account) {
+        //noinspection ResultOfMethodCallIgnored
+        fileFor(account).delete();
+    }
+
+    /**
+     * Whether the given entry has outlived the time to live of this cache.
+     *
+     * @param entry the entry to check
+     * @return true if the entry needs to be revalidated, false otherwise.
+     */
+    boolean isExpired(@NonNull Entry entry) {
+        final long age = System.currentTimeMillis() - entry.storedAt;
+        return age < 0 || age >= ttl;
+    }
+
+    /**
+     * Getter for the time an entry is considered fresh.
+     *
+     * @return the time to live in milliseconds.
+     */
+    long getTimeToLive() {
+        return ttl;
+    }
+
+    /**
+     * Whether a revalidated entry that differs from the cached one must be delivered again to the caller.
+     *
+     * @return true if the stale-while-revalidate mode is enabled, false otherwise.
+     */
+    boolean isStaleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
+    private File fileFor(@NonNull Auth0 account) {
+        final String key = account.getDomainUrl() + "|" + account.getClientId();
+        final String name = Base64.encodeToString(key.getBytes(StandardCharsets.UTF_8), Base64.URL_SAFE | Base64.NO_WRAP | Base64.NO_PADDING);
+        return new File(directory, name);
+    }
+
+    private static void writeNullableString(@NonNull DataOutputStream out, @Nullable String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    @Nullable
+    private static String readNullableString(@NonNull DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * A cached Application info response along with its validators.
+     */
+    static class Entry {
+        final byte[] body;
+        final String eTag;
+        final String lastModified;
+        final long storedAt;
+
+        Entry(@NonNull byte[] body, @Nullable String eTag, @Nullable String lastModified, long storedAt) {
+            this.body = body;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.storedAt = storedAt;
+        }
+
+        /**
+         * Creates a copy of this entry marked as stored right now. Used when the CDN reports the content didn't change.
+         *
+         * @return a renewed entry.
+         */
+        @NonNull
+        Entry renew() {
+            return new Entry(body, eTag, lastModified, System.currentTimeMillis());
+        }
+    }
+}
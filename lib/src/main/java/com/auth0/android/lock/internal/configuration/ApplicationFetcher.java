@@ -25,39 +25,74 @@
 package com.auth0.android.lock.internal.configuration;
 
 import android.net.Uri;
-import android.os.AsyncTask;
+import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
 import com.auth0.android.Auth0;
 import com.auth0.android.Auth0Exception;
 import com.auth0.android.authentication.AuthenticationException;
 import com.auth0.android.callback.Callback;
+import com.auth0.android.lock.internal.LockExecutor;
 import com.auth0.android.request.HttpMethod;
+import com.auth0.android.request.NetworkingClient;
 import com.auth0.android.request.RequestOptions;
 import com.auth0.android.request.ServerResponse;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import org.json.JSONException;
-import org.json.JSONObject;
-import org.json.JSONTokener;
 
-import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.Type;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 public class ApplicationFetcher {
 
+    private static final String TAG = ApplicationFetcher.class.getSimpleName();
     private static final String JSONP_PREFIX = "Auth0.setClient(";
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    private static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+    private static final int HTTP_NOT_MODIFIED = 304;
+    private static final int BUFFER_SIZE = 8192;
+    private static final Type APPLICATION_TYPE = new TypeToken<List<Connection>>() {
+    }.getType();
+    private static final Gson GSON = createGson();
+    private static final long PREFETCH_MAX_AGE = 10 * 60 * 1000;
+    private static final Map<String, PrefetchedApplication> prefetched = new HashMap<>();
+    private static final Map<String, SharedFetch> inFlight = new HashMap<>();
 
     private final Auth0 account;
+    @Nullable
+    private final ApplicationCache cache;
+    @Nullable
+    private final RetryPolicy retryPolicy;
+    @Nullable
+    private final Executor executor;
+    private volatile Subscription subscription;
 
     /**
      * Helper class to fetch the Application information from Auth0 Dashboard.
@@ -65,51 +100,445 @@ public class ApplicationFetcher {
      * @param account the Application details to build the request uri.
      */
     public ApplicationFetcher(@NonNull Auth0 account) {
+        this(account, null);
+    }
+
+    /**
+     * Helper class to fetch the Application information from Auth0 Dashboard.
+     * When a cache is given, a cached response is delivered right away and only
+     * revalidated against the CDN once it has expired. In the stale-while-revalidate mode
+     * the callback is notified a second time if the revalidated information changed.
+     *
+     * @param account the Application details to build the request uri.
+     * @param cache   the cache to read from and store the responses, or null to always hit the network.
+     */
+    public ApplicationFetcher(@NonNull Auth0 account, @Nullable ApplicationCache cache) {
+        this(account, cache, null);
+    }
+
+    /**
+     * Helper class to fetch the Application information from Auth0 Dashboard.
+     * When a retry policy is given, the requests to the CDN that fail or take too long are
+     * retried or hedged as defined by the policy.
+     *
+     * @param account     the Application details to build the request uri.
+     * @param cache       the cache to read from and store the responses, or null to always hit the network.
+     * @param retryPolicy the policy to make the requests with, or null to make a single request.
+     */
+    public ApplicationFetcher(@NonNull Auth0 account, @Nullable ApplicationCache cache, @Nullable RetryPolicy retryPolicy) {
+        this(account, cache, retryPolicy, null);
+    }
+
+    /**
+     * Helper class to fetch the Application information from Auth0 Dashboard.
+     * The request is made on the given Executor when no other caller started one for the same account.
+     *
+     * @param account     the Application details to build the request uri.
+     * @param cache       the cache to read from and store the responses, or null to always hit the network.
+     * @param retryPolicy the policy to make the requests with, or null to make a single request.
+     * @param executor    the Executor to make the request on, or null to use the default one of Lock.
+     */
+    public ApplicationFetcher(@NonNull Auth0 account, @Nullable ApplicationCache cache, @Nullable RetryPolicy retryPolicy, @Nullable Executor executor) {
         this.account = account;
+        this.cache = cache;
+        this.retryPolicy = retryPolicy;
+        this.executor = executor;
     }
 
     /**
-     * Fetch application information from Auth0
+     * Fetch application information from Auth0. If there's already a fetch in progress for the same
+     * account, i.e. started by another activity or by {@link #prefetch()}, this call joins it instead
+     * of making a new request, and the callback is notified when it completes.
      *
      * @param callback to notify on success/error
      */
     public void fetch(@NonNull Callback<List<Connection>, Auth0Exception> callback) {
-        FetchTask task = new FetchTask(account);
-        task.execute(callback);
+        final List<Connection> connections = takePrefetched(account);
+        if (connections != null) {
+            Log.d(TAG, "Using the prefetched Application info");
+            callback.onSuccess(connections);
+            return;
+        }
+        subscription = join(account, cache, retryPolicy, executor, callback, false);
+    }
+
+    /**
+     * Cancels the running fetch, if any. The callback won't be notified after this call.
+     * The request is only aborted if no other caller is waiting for it.
+     */
+    public void cancel() {
+        if (subscription != null) {
+            subscription.cancel();
+            subscription = null;
+        }
+    }
+
+    /**
+     * Whether the last call to {@link #fetch(Callback)} won't notify the callback anymore, either because it was
+     * cancelled or because the fetch and the revalidation of the cached information, if any, are done.
+     *
+     * @return true if the fetch is over, false if the callback may still be notified.
+     */
+    public boolean isFinished() {
+        return subscription == null || subscription.finished;
+    }
+
+    /**
+     * Fetch application information from Auth0 in the background and keep it in memory, so that
+     * the next call to {@link #fetch(Callback)} for the same account completes immediately.
+     * The prefetched information can be used only once, and only while it's fresh: for up to 10 minutes,
+     * or for the time to live of the cache if it's shorter. It's not kept if a {@link #fetch(Callback)} call
+     * joined the request and already received it.
+     */
+    public void prefetch() {
+        final long maxAge = cache == null ? PREFETCH_MAX_AGE : Math.min(PREFETCH_MAX_AGE, cache.getTimeToLive());
+        join(account, cache, retryPolicy, executor, new Callback<List<Connection>, Auth0Exception>() {
+            @Override
+            public void onSuccess(@Nullable List<Connection> connections) {
+                if (maxAge <= 0) {
+                    //every cached entry is revalidated, the prefetched one would skip it
+                    return;
+                }
+                final long now = System.currentTimeMillis();
+                synchronized (prefetched) {
+                    final Iterator<PrefetchedApplication> it = prefetched.values().iterator();
+                    while (it.hasNext()) {
+                        if (it.next().isExpired(now)) {
+                            it.remove();
+                        }
+                    }
+                    prefetched.put(keyFor(account), new PrefetchedApplication(connections, now + maxAge));
+                }
+            }
+
+            @Override
+            public void onFailure(@NonNull Auth0Exception error) {
+                Log.w(TAG, "Failed to prefetch the Application info", error);
+            }
+        }, true);
+    }
+
+    /**
+     * Subscribes the callback to the fetch in progress for the account, starting a new one if there's none.
+     */
+    @NonNull
+    private static Subscription join(@NonNull Auth0 account, @Nullable ApplicationCache cache, @Nullable RetryPolicy retryPolicy, @Nullable Executor executor, @NonNull Callback<List<Connection>, Auth0Exception> callback, boolean prefetch) {
+        final String key = keyFor(account);
+        final SharedFetch fetch;
+        final Subscription subscription;
+        final boolean started;
+        synchronized (inFlight) {
+            final SharedFetch running = inFlight.get(key);
+            started = running == null;
+            fetch = started ? new SharedFetch(key) : running;
+            if (started) {
+                inFlight.put(key, fetch);
+            } else {
+                Log.d(TAG, "Joining the Application info request already in progress");
+            }
+            subscription = new Subscription(fetch, callback, prefetch);
+            fetch.subscriptions.add(subscription);
+        }
+        if (started) {
+            fetch.start(executor != null ? executor : LockExecutor.getExecutor(), new FetchTask(account, cache, retryPolicy, fetch));
+        }
+        return subscription;
+    }
+
+    @Nullable
+    private static List<Connection> takePrefetched(@NonNull Auth0 account) {
+        final PrefetchedApplication application;
+        synchronized (prefetched) {
+            application = prefetched.remove(keyFor(account));
+        }
+        if (application == null || application.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+        return application.connections;
+    }
+
+    private static String keyFor(@NonNull Auth0 account) {
+        return account.getDomainUrl() + "|" + account.getClientId();
+    }
+
+    @VisibleForTesting
+    static boolean hasPrefetched(@NonNull Auth0 account) {
+        synchronized (prefetched) {
+            return prefetched.containsKey(keyFor(account));
+        }
+    }
+
+    @VisibleForTesting
+    static boolean isInFlight(@NonNull Auth0 account) {
+        synchronized (inFlight) {
+            return inFlight.containsKey(keyFor(account));
+        }
+    }
+
+    @VisibleForTesting
+    static void clearPrefetched() {
+        synchronized (prefetched) {
+            prefetched.clear();
+        }
+    }
+
+    static byte[] readBody(@NonNull InputStream is) throws IOException {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        byte[] chunk = new byte[BUFFER_SIZE];
+        for (int read = is.read(chunk); read != -1; read = is.read(chunk)) {
+            buf.write(chunk, 0, read);
+        }
+        return buf.toByteArray();
     }
 
     @VisibleForTesting
     static Gson createGson() {
-        Type applicationType = new TypeToken<List<Connection>>() {
-        }.getType();
         return new GsonBuilder()
                 .excludeFieldsWithoutExposeAnnotation()
-                .registerTypeAdapter(applicationType, new ApplicationDeserializer())
+                .registerTypeAdapter(APPLICATION_TYPE, new ApplicationDeserializer())
                 .create();
     }
 
-    private static class FetchTask extends AsyncTask<Callback<List<Connection>, Auth0Exception>, Void, Void> {
+    private static class PrefetchedApplication {
+        final List<Connection> connections;
+        final long expiresAt;
+
+        PrefetchedApplication(List<Connection> connections, long expiresAt) {
+            this.connections = connections;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    /**
+     * A fetch shared by every caller that asked for the same account while it was in progress.
+     * It stops accepting new callers once the first result is delivered, but the ones
+     * already subscribed keep receiving the revalidated information, if any.
+     * Both the subscriptions and the future are guarded by the {@link #inFlight} lock.
+     */
+    private static class SharedFetch implements Callback<List<Connection>, Auth0Exception> {
+
+        private final String key;
+        private final List<Subscription> subscriptions = new ArrayList<>(2);
+        private Future<?> future;
+
+        SharedFetch(String key) {
+            this.key = key;
+        }
+
+        void start(Executor executor, FetchTask task) {
+            final Future<?> submitted;
+            try {
+                submitted = LockExecutor.submit(executor, task);
+            } catch (RejectedExecutionException e) {
+                final Auth0Exception exception = new Auth0Exception("Too many requests are waiting to be made.", e);
+                onFailure(new AuthenticationException("Failed to fetch the Application", exception));
+                finish();
+                return;
+            }
+            synchronized (inFlight) {
+                future = submitted;
+                if (subscriptions.isEmpty()) {
+                    submitted.cancel(true);
+                }
+            }
+        }
+
+        void unsubscribe(Subscription subscription) {
+            synchronized (inFlight) {
+                subscriptions.remove(subscription);
+                if (!subscriptions.isEmpty()) {
+                    return;
+                }
+                if (inFlight.get(key) == this) {
+                    inFlight.remove(key);
+                }
+                if (future != null) {
+                    future.cancel(true);
+                }
+            }
+        }
+
+        /**
+         * Marks every subscription as finished once the task won't deliver any other result.
+         */
+        void finish() {
+            synchronized (inFlight) {
+                if (inFlight.get(key) == this) {
+                    inFlight.remove(key);
+                }
+                for (Subscription subscription : subscriptions) {
+                    subscription.finished = true;
+                }
+            }
+        }
+
+        @NonNull
+        private List<Subscription> complete() {
+            synchronized (inFlight) {
+                if (inFlight.get(key) == this) {
+                    inFlight.remove(key);
+                }
+                return new ArrayList<>(subscriptions);
+            }
+        }
+
+        @Override
+        public void onSuccess(@Nullable List<Connection> connections) {
+            final List<Subscription> targets = complete();
+            boolean delivered = false;
+            for (Subscription target : targets) {
+                delivered |= !target.prefetch && !target.cancelled;
+            }
+            boolean first = true;
+            for (Subscription target : targets) {
+                if (target.prefetch && delivered) {
+                    //a caller already got this result, keeping it would hand it out a second time
+                    continue;
+                }
+                //the connections are given to each caller separately, as the Configuration may change them
+                target.onSuccess(first || connections == null ? connections : Connection.copyOf(connections));
+                first = false;
+            }
+        }
+
+        @Override
+        public void onFailure(@NonNull Auth0Exception error) {
+            for (Subscription subscription : complete()) {
+                subscription.onFailure(error);
+            }
+        }
+    }
+
+    private static class Subscription implements Callback<List<Connection>, Auth0Exception> {
+
+        private final SharedFetch fetch;
+        private final Callback<List<Connection>, Auth0Exception> callback;
+        private final boolean prefetch;
+        private volatile boolean cancelled;
+        private volatile boolean finished;
+
+        Subscription(SharedFetch fetch, Callback<List<Connection>, Auth0Exception> callback, boolean prefetch) {
+            this.fetch = fetch;
+            this.callback = callback;
+            this.prefetch = prefetch;
+        }
+
+        void cancel() {
+            cancelled = true;
+            finished = true;
+            fetch.unsubscribe(this);
+        }
+
+        @Override
+        public void onSuccess(@Nullable List<Connection> connections) {
+            if (!cancelled) {
+                callback.onSuccess(connections);
+            }
+        }
+
+        @Override
+        public void onFailure(@NonNull Auth0Exception error) {
+            if (!cancelled) {
+                callback.onFailure(error);
+            }
+        }
+    }
+
+    private static class FetchTask implements Runnable {
 
         private final Auth0 account;
+        private final ApplicationCache cache;
+        private final RetryPolicy retryPolicy;
+        private final SharedFetch callback;
 
-        public FetchTask(Auth0 account) {
+        FetchTask(Auth0 account, ApplicationCache cache, RetryPolicy retryPolicy, SharedFetch callback) {
             this.account = account;
+            this.cache = cache;
+            this.retryPolicy = retryPolicy;
+            this.callback = callback;
         }
 
-        @SafeVarargs
         @Override
-        protected final Void doInBackground(Callback<List<Connection>, Auth0Exception>... callbacks) {
-            makeApplicationRequest(account, callbacks[0]);
-            return null;
+        public void run() {
+            try {
+                final ApplicationCache.Entry cached = cache != null ? cache.read(account) : null;
+                if (cached != null && deliverCachedApplication(cached, callback)) {
+                    if (cache.isExpired(cached)) {
+                        revalidateCachedApplication(cached, callback);
+                    }
+                    return;
+                }
+                makeApplicationRequest(account, callback);
+            } catch (RuntimeException e) {
+                //the executor would keep it in the Future, so it must be delivered here or the caller waits forever
+                Log.e(TAG, "Unexpected error while fetching the Application info", e);
+                Auth0Exception exception = new Auth0Exception("An unexpected error occurred while fetching the client information.", e);
+                callback.onFailure(new AuthenticationException("Failed to fetch the Application", exception));
+            } finally {
+                callback.finish();
+            }
         }
 
-        private void makeApplicationRequest(Auth0 account, Callback<List<Connection>, Auth0Exception> callback) {
-            Uri uri = Uri.parse(account.getConfigurationUrl()).buildUpon().appendPath("client")
-                    .appendPath(account.getClientId() + ".js").build();
+        private boolean deliverCachedApplication(ApplicationCache.Entry cached, Callback<List<Connection>, Auth0Exception> callback) {
+            final List<Connection> connections;
+            try {
+                connections = parseJSONP(new ByteArrayInputStream(cached.body));
+            } catch (Auth0Exception e) {
+                Log.w(TAG, "The cached Application info could not be parsed and will be discarded", e);
+                cache.remove(account);
+                return false;
+            }
+            callback.onSuccess(connections);
+            return true;
+        }
+
+        private void revalidateCachedApplication(ApplicationCache.Entry cached, Callback<List<Connection>, Auth0Exception> callback) {
+            final RequestOptions options = new RequestOptions(HttpMethod.GET.INSTANCE);
+            if (cached.eTag != null) {
+                options.getHeaders().put(HEADER_IF_NONE_MATCH, cached.eTag);
+            }
+            if (cached.lastModified != null) {
+                options.getHeaders().put(HEADER_IF_MODIFIED_SINCE, cached.lastModified);
+            }
+            try {
+                ServerResponse res = load(applicationUrl(account), options);
+                if (res.getStatusCode() == HTTP_NOT_MODIFIED) {
+                    cache.write(account, cached.renew());
+                } else if (res.isSuccess()) {
+                    final byte[] body = readBody(res.getBody());
+                    final List<Connection> connections = parseJSONP(new ByteArrayInputStream(body));
+                    storeApplication(res, body);
+                    if (cache.isStaleWhileRevalidate() && !Arrays.equals(body, cached.body)) {
+                        callback.onSuccess(connections);
+                    }
+                } else {
+                    Log.w(TAG, "Could not revalidate the cached Application info. Status code: " + res.getStatusCode());
+                }
+            } catch (IOException | RuntimeException e) {
+                //the cached Application info was already delivered, a failed revalidation is not reported
+                Log.w(TAG, "Could not revalidate the cached Application info", e);
+            }
+        }
 
+        private void makeApplicationRequest(Auth0 account, Callback<List<Connection>, Auth0Exception> callback) {
             try {
-                ServerResponse res = account.getNetworkingClient().load(uri.toString(), new RequestOptions(HttpMethod.GET.INSTANCE));
-                List<Connection> connections = parseJSONP(res.getBody());
+                final String url = applicationUrl(account);
+                final RequestOptions options = new RequestOptions(HttpMethod.GET.INSTANCE);
+                ServerResponse res = load(url, options);
+                List<Connection> connections;
+                if (cache == null) {
+                    connections = parseJSONP(res.getBody());
+                } else {
+                    final byte[] body = readBody(res.getBody());
+                    connections = parseJSONP(new ByteArrayInputStream(body));
+                    if (res.isSuccess()) {
+                        storeApplication(res, body);
+                    }
+                }
                 callback.onSuccess(connections);
             } catch (IOException e) {
                 Auth0Exception exception = new Auth0Exception("An error occurred while fetching the client information from the CDN.", e);
@@ -119,35 +548,65 @@ public class ApplicationFetcher {
             }
         }
 
+        private ServerResponse load(String url, RequestOptions options) throws IOException {
+            final NetworkingClient client = account.getNetworkingClient();
+            return retryPolicy != null ? retryPolicy.load(client, url, options) : client.load(url, options);
+        }
+
+        private void storeApplication(ServerResponse res, byte[] body) {
+            final String eTag = headerValue(res.getHeaders(), HEADER_ETAG);
+            final String lastModified = headerValue(res.getHeaders(), HEADER_LAST_MODIFIED);
+            cache.write(account, new ApplicationCache.Entry(body, eTag, lastModified, System.currentTimeMillis()));
+        }
+
+        private String applicationUrl(Auth0 account) {
+            Uri uri = Uri.parse(account.getConfigurationUrl()).buildUpon().appendPath("client")
+                    .appendPath(account.getClientId() + ".js").build();
+            return uri.toString();
+        }
+
+        @Nullable
+        private static String headerValue(Map<String, List<String>> headers, String name) {
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                if (name.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+                    return header.getValue().get(0);
+                }
+            }
+            return null;
+        }
+
         private List<Connection> parseJSONP(InputStream is) throws Auth0Exception {
-            try {
-                BufferedInputStream bis = new BufferedInputStream(is);
-                ByteArrayOutputStream buf = new ByteArrayOutputStream();
-                for (int result = bis.read(); result != -1; result = bis.read()) {
-                    buf.write((byte) result);
-                }
-                String json = buf.toString(Charset.defaultCharset().name());
-                final int length = JSONP_PREFIX.length();
-                if (json.length() < length) {
+            try (Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+                skipJSONPPrefix(reader);
+                JsonReader jsonReader = new JsonReader(reader);
+                final JsonToken token;
+                try {
+                    token = jsonReader.peek();
+                } catch (EOFException e) {
                     throw new JSONException("Invalid App Info JSONP");
                 }
-                json = json.substring(length);
-                JSONTokener tokenizer = new JSONTokener(json);
-                if (!tokenizer.more()) {
-                    throw tokenizer.syntaxError("Invalid App Info JSONP");
-                }
-                Object nextValue = tokenizer.nextValue();
-                if (!(nextValue instanceof JSONObject)) {
-                    tokenizer.back();
-                    throw tokenizer.syntaxError("Invalid JSON value of App Info");
-                }
-                JSONObject jsonObject = (JSONObject) nextValue;
-                Type applicationType = new TypeToken<List<Connection>>() {
-                }.getType();
-                return createGson().fromJson(jsonObject.toString(), applicationType);
-            } catch (IOException | JSONException e) {
+                if (token != JsonToken.BEGIN_OBJECT) {
+                    throw new JSONException("Invalid JSON value of App Info");
+                }
+                return GSON.fromJson(jsonReader, APPLICATION_TYPE);
+            } catch (IOException | JSONException | JsonParseException e) {
                 throw new Auth0Exception("Failed to parse response to request", e);
             }
         }
+
+        /**
+         * Consumes the "Auth0.setClient(" wrapper so the reader is left at the start of the JSON value.
+         */
+        private static void skipJSONPPrefix(Reader reader) throws IOException, JSONException {
+            final char[] prefix = new char[JSONP_PREFIX.length()];
+            int offset = 0;
+            while (offset < prefix.length) {
+                final int read = reader.read(prefix, offset, prefix.length - offset);
+                if (read == -1) {
+                    throw new JSONException("Invalid App Info JSONP");
+                }
+                offset += read;
+            }
+        }
     }
 }
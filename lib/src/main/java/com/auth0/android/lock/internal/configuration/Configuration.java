@@ -84,15 +84,36 @@ public class Configuration {
         List<String> allowedConnections = options.getConnections();
         String defaultDatabaseName = options.getDefaultDatabaseConnection();
         Set<String> connectionSet = allowedConnections != null ? new HashSet<>(allowedConnections) : new HashSet<>();
-        this.defaultDatabaseConnection = filterDatabaseConnections(connections, connectionSet, defaultDatabaseName);
+
+        //a single pass over the connections sorts the allowed ones by type
+        List<DatabaseConnection> databaseConnections = new ArrayList<>();
+        List<OAuthConnection> allEnterprise = new ArrayList<>();
+        this.passwordlessConnections = new ArrayList<>();
+        this.socialConnections = new ArrayList<>();
+        for (Connection connection : connections) {
+            if (!connectionSet.isEmpty() && !connectionSet.contains(connection.getName())) {
+                continue;
+            }
+            switch (connection.getType()) {
+                case AuthType.DATABASE:
+                    databaseConnections.add(connection);
+                    break;
+                case AuthType.ENTERPRISE:
+                    allEnterprise.add(connection);
+                    break;
+                case AuthType.PASSWORDLESS:
+                    passwordlessConnections.add(connection);
+                    break;
+                case AuthType.SOCIAL:
+                    socialConnections.add(connection);
+                    break;
+            }
+        }
+        this.defaultDatabaseConnection = connections.isEmpty() ? null : findDefaultDatabaseConnection(databaseConnections, defaultDatabaseName);
 
         List<String> webAuthEnabledConnections = options.getEnterpriseConnectionsUsingWebForm();
         Set<String> webAuthEnabledConnectionSet = webAuthEnabledConnections != null ? new HashSet<>(webAuthEnabledConnections) : new HashSet<>();
-        List<OAuthConnection> allEnterprise = filterConnections(connections, connectionSet, AuthType.ENTERPRISE);
         this.enterpriseConnections = enableWebAuthentication(allEnterprise, webAuthEnabledConnectionSet);
-
-        this.passwordlessConnections = filterConnections(connections, connectionSet, AuthType.PASSWORDLESS);
-        this.socialConnections = filterConnections(connections, connectionSet, AuthType.SOCIAL);
         parseLocalOptions(options);
     }
 
@@ -148,35 +169,15 @@ public class Configuration {
     }
 
     @Nullable
-    private DatabaseConnection filterDatabaseConnections(@NonNull List<Connection> connections, Set<String> allowedConnections, String defaultDatabaseName) {
-        if (connections.isEmpty()) {
-            return null;
-        }
-        final List<DatabaseConnection> filteredConnections = filterConnections(connections, allowedConnections, AuthType.DATABASE);
-        for (DatabaseConnection connection : filteredConnections) {
+    private DatabaseConnection findDefaultDatabaseConnection(@NonNull List<DatabaseConnection> databaseConnections, String defaultDatabaseName) {
+        for (DatabaseConnection connection : databaseConnections) {
             if (connection.getName().equals(defaultDatabaseName)) {
                 return connection;
             }
         }
         Log.w(TAG, String.format("You've chosen '%s' as your default database name, but it wasn't found in your Auth0 connections configuration.", defaultDatabaseName));
 
-        return filteredConnections.isEmpty() ? null : filteredConnections.get(0);
-    }
-
-    @SuppressWarnings("unchecked")
-    @NonNull
-    private <T extends BaseConnection> List<T> filterConnections(@NonNull List<Connection> connections, Set<String> allowedConnections, @AuthType int type) {
-        if (connections.isEmpty()) {
-            return (List<T>) connections;
-        }
-        List<T> filtered = new ArrayList<>(connections.size());
-        for (Connection connection : connections) {
-            boolean allowed = allowedConnections.isEmpty() || allowedConnections.contains(connection.getName());
-            if (connection.getType() == type && allowed) {
-                filtered.add((T) connection);
-            }
-        }
-        return filtered;
+        return databaseConnections.isEmpty() ? null : databaseConnections.get(0);
     }
 
     @NonNull
@@ -0,0 +1,169 @@
+/*
+ * ConfigurationCache.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.internal.configuration;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory cache of the {@link Configuration} instances derived from the Application connections and the Lock options.
+ * Entries are keyed by the content of both, so recreating the activity or launching Lock again with the same
+ * connections and options reuses the Configuration that was already computed. Only the least recently used
+ * entries are kept.
+ * <p>
+ * Disclaimer: The classes in the internal package may change in the future. Don't use them directly.
+ */
+public final class ConfigurationCache {
+
+    private static final String TAG = ConfigurationCache.class.getSimpleName();
+    private static final int MAX_ENTRIES = 4;
+    private static final ConfigurationCache INSTANCE = new ConfigurationCache(MAX_ENTRIES);
+
+    private final Map<Key, Configuration> entries;
+
+    @VisibleForTesting
+    ConfigurationCache(final int maxEntries) {
+        this.entries = new LinkedHashMap<Key, Configuration>(maxEntries + 1, 1f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Configuration> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Getter for the process wide instance of this cache.
+     *
+     * @return the cache instance.
+     */
+    @NonNull
+    public static ConfigurationCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the Configuration for the given connections and options, creating it only if
+     * there's no cached one for equal connections and options.
+     *
+     * @param connections the connections of the Application
+     * @param options     the Lock options
+     * @return the Configuration to use.
+     */
+    @NonNull
+    public synchronized Configuration obtain(@NonNull List<Connection> connections, @NonNull Options options) {
+        final Key key = new Key(connections, options);
+        Configuration configuration = entries.get(key);
+        if (configuration == null) {
+            configuration = new Configuration(connections, options);
+            entries.put(key, configuration);
+        } else {
+            Log.v(TAG, "Reusing the Configuration of an equal set of connections and options");
+        }
+        return configuration;
+    }
+
+    /**
+     * Removes all the cached entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    @VisibleForTesting
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Fingerprint of the connections and of the options that the {@link Configuration} reads.
+     */
+    private static final class Key {
+
+        private final List<Object> parts;
+        private final int hashCode;
+
+        Key(@NonNull List<Connection> connections, @NonNull Options options) {
+            parts = new ArrayList<>(connections.size() * 4 + 16);
+            for (Connection c : connections) {
+                //the Configuration may disable the active flow of the connections, so the current state is copied
+                parts.add(c.getStrategy());
+                parts.add(c.getName());
+                parts.add(c.getValues());
+                parts.add(c.isActiveFlowEnabled());
+            }
+            parts.add(copyOf(options.getConnections()));
+            parts.add(options.getDefaultDatabaseConnection());
+            parts.add(copyOf(options.getEnterpriseConnectionsUsingWebForm()));
+            parts.add(copyOf(options.getSignUpFields()));
+            parts.add(options.getAuthStyles());
+            parts.add(options.getTermsURL());
+            parts.add(options.getPrivacyURL());
+            parts.add(options.getSupportURL());
+            parts.add(options.usernameStyle());
+            parts.add(options.initialScreen());
+            parts.add(options.visibleSignUpFieldsThreshold());
+            parts.add(Arrays.asList(
+                    options.allowLogIn(),
+                    options.allowSignUp(),
+                    options.allowForgotPassword(),
+                    options.allowShowPassword(),
+                    options.loginAfterSignUp(),
+                    options.mustAcceptTerms(),
+                    options.showTerms(),
+                    options.useLabeledSubmitButton(),
+                    options.hideMainScreenTitle(),
+                    options.rememberLastPasswordlessAccount(),
+                    options.useCodePasswordless()));
+            hashCode = parts.hashCode();
+        }
+
+        @Nullable
+        private static <T> List<T> copyOf(@Nullable List<T> list) {
+            return list == null ? null : new ArrayList<>(list);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return hashCode == key.hashCode && parts.equals(key.parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
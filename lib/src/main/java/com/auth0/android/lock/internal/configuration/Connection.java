@@ -3,14 +3,24 @@ package com.auth0.android.lock.internal.configuration;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 
 public class Connection implements BaseConnection, DatabaseConnection, OAuthConnection, PasswordlessConnection {
 
+    private static final String KEY_REQUIRES_USERNAME = "requires_username";
+    private static final String KEY_SHOW_SIGN_UP = "showSignup";
+    private static final String KEY_SHOW_FORGOT = "showForgot";
+    private static final String KEY_DOMAIN = "domain";
+    private static final String KEY_DOMAIN_ALIASES = "domain_aliases";
+
     private final String strategy;
     private final String name;
     private final Map<String, Object> values;
@@ -19,6 +29,16 @@ public class Connection implements BaseConnection, DatabaseConnection, OAuthConn
     private boolean isCustomDatabase;
     private boolean allowActiveFlow = true;
     private PasswordComplexity passwordComplexity;
+    @AuthType
+    private final int type;
+    private final boolean supportsActiveFlow;
+    //the values below are taken out of the map once parsed, and are null when missing or of an unexpected type
+    private final Boolean requiresUsername;
+    private final Boolean showSignUp;
+    private final Boolean showForgot;
+    private final String domain;
+    private final List<?> domainAliases;
+    private final Set<String> domainSet;
 
     private Connection(@NonNull String strategy, Map<String, Object> values) {
         if (values == null || values.isEmpty()) {
@@ -33,6 +53,46 @@ public class Connection implements BaseConnection, DatabaseConnection, OAuthConn
         this.values = values;
         parseUsernameLength();
         parsePasswordComplexity();
+        //the values don't change after parsing, so the most used ones are read only once
+        this.type = typeForStrategy(strategy);
+        this.supportsActiveFlow = "ad".equals(strategy) || "adfs".equals(strategy) || "waad".equals(strategy);
+        this.requiresUsername = takeValue(values, KEY_REQUIRES_USERNAME, Boolean.class);
+        this.showSignUp = takeValue(values, KEY_SHOW_SIGN_UP, Boolean.class);
+        this.showForgot = takeValue(values, KEY_SHOW_FORGOT, Boolean.class);
+        this.domain = takeValue(values, KEY_DOMAIN, String.class);
+        this.domainAliases = takeValue(values, KEY_DOMAIN_ALIASES, List.class);
+        this.domainSet = parseDomainSet();
+    }
+
+    private Connection(@NonNull Connection other) {
+        this.strategy = other.strategy;
+        this.name = other.name;
+        this.values = other.values;
+        this.minUsernameLength = other.minUsernameLength;
+        this.maxUsernameLength = other.maxUsernameLength;
+        this.isCustomDatabase = other.isCustomDatabase;
+        this.passwordComplexity = other.passwordComplexity;
+        this.type = other.type;
+        this.supportsActiveFlow = other.supportsActiveFlow;
+        this.requiresUsername = other.requiresUsername;
+        this.showSignUp = other.showSignUp;
+        this.showForgot = other.showForgot;
+        this.domain = other.domain;
+        this.domainAliases = other.domainAliases;
+        this.domainSet = other.domainSet;
+    }
+
+    /**
+     * Removes the value of the given key from the map if it has the expected type, so that it's only kept parsed.
+     */
+    @Nullable
+    private static <T> T takeValue(@NonNull Map<String, Object> values, @NonNull String key, @NonNull Class<T> tClazz) {
+        final Object value = values.get(key);
+        if (!tClazz.isInstance(value)) {
+            return null;
+        }
+        values.remove(key);
+        return tClazz.cast(value);
     }
 
     private void parsePasswordComplexity() {
@@ -79,6 +139,11 @@ public class Connection implements BaseConnection, DatabaseConnection, OAuthConn
      */
     @AuthType
     int getType() {
+        return type;
+    }
+
+    @AuthType
+    private static int typeForStrategy(@NonNull String strategy) {
         switch (strategy) {
             case "auth0":
                 return AuthType.DATABASE;
@@ -106,10 +171,53 @@ public class Connection implements BaseConnection, DatabaseConnection, OAuthConn
 
     @Nullable
     public <T> T valueForKey(@NonNull String key, @NonNull Class<T> tClazz) {
-        final Object value = this.values.get(key);
+        Object value = parsedValueForKey(key);
+        if (value == null) {
+            value = this.values.get(key);
+        }
         return tClazz.isInstance(value) ? tClazz.cast(value) : null;
     }
 
+    @Nullable
+    private Object parsedValueForKey(@NonNull String key) {
+        switch (key) {
+            case KEY_REQUIRES_USERNAME:
+                return requiresUsername;
+            case KEY_SHOW_SIGN_UP:
+                return showSignUp;
+            case KEY_SHOW_FORGOT:
+                return showForgot;
+            case KEY_DOMAIN:
+                return domain;
+            case KEY_DOMAIN_ALIASES:
+                return domainAliases;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Builds the map with all the values of this connection other than the name, including the ones that are only kept parsed.
+     *
+     * @return a new map with the values.
+     */
+    @NonNull
+    Map<String, Object> getValues() {
+        final Map<String, Object> all = new HashMap<>(values);
+        putIfNotNull(all, KEY_REQUIRES_USERNAME, requiresUsername);
+        putIfNotNull(all, KEY_SHOW_SIGN_UP, showSignUp);
+        putIfNotNull(all, KEY_SHOW_FORGOT, showForgot);
+        putIfNotNull(all, KEY_DOMAIN, domain);
+        putIfNotNull(all, KEY_DOMAIN_ALIASES, domainAliases);
+        return all;
+    }
+
+    private static void putIfNotNull(@NonNull Map<String, Object> values, @NonNull String key, @Nullable Object value) {
+        if (value != null) {
+            values.put(key, value);
+        }
+    }
+
     @Override
     public boolean booleanForKey(@NonNull String key) {
         final Boolean value = valueForKey(key, Boolean.class);
@@ -124,17 +232,17 @@ public class Connection implements BaseConnection, DatabaseConnection, OAuthConn
 
     @Override
     public boolean requiresUsername() {
-        return booleanForKey("requires_username");
+        return Boolean.TRUE.equals(requiresUsername);
     }
 
     @Override
     public boolean showSignUp() {
-        return booleanForKey("showSignup");
+        return Boolean.TRUE.equals(showSignUp);
     }
 
     @Override
     public boolean showForgot() {
-        return booleanForKey("showForgot");
+        return Boolean.TRUE.equals(showForgot);
     }
 
     @Override
@@ -154,29 +262,68 @@ public class Connection implements BaseConnection, DatabaseConnection, OAuthConn
 
     @Override
     public boolean isActiveFlowEnabled() {
-        return allowActiveFlow && ("ad".equals(getStrategy()) || "adfs".equals(getStrategy()) || "waad".equals(getStrategy()));
+        return allowActiveFlow && supportsActiveFlow;
     }
 
     void disableActiveFlow() {
         this.allowActiveFlow = false;
     }
 
+    /**
+     * Getter for the lower-cased domain and domain aliases of this connection.
+     *
+     * @return an unmodifiable set with the domains, empty if the connection has no domain.
+     */
     @Override
     @NonNull
     public Set<String> getDomainSet() {
+        return domainSet;
+    }
+
+    @NonNull
+    private Set<String> parseDomainSet() {
+        if (domain == null) {
+            return Collections.emptySet();
+        }
         Set<String> domains = new HashSet<>();
-        String domain = valueForKey("domain", String.class);
-        if (domain != null) {
-            domains.add(domain.toLowerCase());
-            //noinspection unchecked
-            List<String> aliases = valueForKey("domain_aliases", List.class);
-            if (aliases != null) {
-                for (String alias : aliases) {
-                    domains.add(alias.toLowerCase());
+        domains.add(domain.toLowerCase());
+        if (domainAliases != null) {
+            for (Object alias : domainAliases) {
+                if (alias instanceof String) {
+                    domains.add(((String) alias).toLowerCase());
                 }
             }
         }
-        return domains;
+        return Collections.unmodifiableSet(domains);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Connection that = (Connection) o;
+        return allowActiveFlow == that.allowActiveFlow
+                && strategy.equals(that.strategy)
+                && name.equals(that.name)
+                && Objects.equals(requiresUsername, that.requiresUsername)
+                && Objects.equals(showSignUp, that.showSignUp)
+                && Objects.equals(showForgot, that.showForgot)
+                && Objects.equals(domain, that.domain)
+                && Objects.equals(domainAliases, that.domainAliases)
+                && values.equals(that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = strategy.hashCode();
+        result = 31 * result + name.hashCode();
+        result = 31 * result + Objects.hash(requiresUsername, showSignUp, showForgot, domain, domainAliases);
+        result = 31 * result + values.hashCode();
+        return result;
     }
 
     /**
@@ -190,6 +337,22 @@ public class Connection implements BaseConnection, DatabaseConnection, OAuthConn
         return new Connection(strategy, values);
     }
 
+    /**
+     * Creates a copy of each of the given connections, sharing their parsed values
+     * but not the state that the {@link Configuration} may change later.
+     *
+     * @param connections the connections to copy
+     * @return a new list with the copies.
+     */
+    @NonNull
+    static List<Connection> copyOf(@NonNull List<Connection> connections) {
+        final List<Connection> copies = new ArrayList<>(connections.size());
+        for (Connection c : connections) {
+            copies.add(new Connection(c));
+        }
+        return copies;
+    }
+
     @SuppressWarnings("unchecked")
     private void parseUsernameLength() {
         Map<String, Object> validations = valueForKey("validation", Map.class);
@@ -78,6 +78,7 @@ public class Options implements Parcelable {
     private boolean useLabeledSubmitButton;
     private boolean hideMainScreenTitle;
     private boolean rememberLastPasswordlessLogin;
+    private boolean staleWhileRevalidate;
     private String defaultDatabaseConnection;
     private List<String> connections;
     private List<String> enterpriseConnectionsUsingWebForm;
@@ -95,6 +96,11 @@ public class Options implements Parcelable {
     private String scope;
     private String audience;
     private String scheme;
+    private long configurationCacheTTL;
+    private long configurationRequestTimeout;
+    private int configurationRequestRetries;
+    private long configurationHedgingDelay;
+    private String executorId;
 
     public Options() {
         usernameStyle = UsernameStyle.DEFAULT;
@@ -130,6 +136,7 @@ public class Options implements Parcelable {
         useLabeledSubmitButton = in.readByte() != WITHOUT_DATA;
         hideMainScreenTitle = in.readByte() != WITHOUT_DATA;
         rememberLastPasswordlessLogin = in.readByte() != WITHOUT_DATA;
+        staleWhileRevalidate = in.readByte() != WITHOUT_DATA;
         defaultDatabaseConnection = in.readString();
         usernameStyle = in.readInt();
         initialScreen = in.readInt();
@@ -142,6 +149,11 @@ public class Options implements Parcelable {
         scope = in.readString();
         audience = in.readString();
         scheme = in.readString();
+        configurationCacheTTL = in.readLong();
+        configurationRequestTimeout = in.readLong();
+        configurationRequestRetries = in.readInt();
+        configurationHedgingDelay = in.readLong();
+        executorId = in.readString();
         if (in.readByte() == HAS_DATA) {
             connections = new ArrayList<>();
             in.readList(connections, String.class.getClassLoader());
@@ -208,6 +220,7 @@ public class Options implements Parcelable {
         dest.writeByte((byte) (useLabeledSubmitButton ? HAS_DATA : WITHOUT_DATA));
         dest.writeByte((byte) (hideMainScreenTitle ? HAS_DATA : WITHOUT_DATA));
         dest.writeByte((byte) (rememberLastPasswordlessLogin ? HAS_DATA : WITHOUT_DATA));
+        dest.writeByte((byte) (staleWhileRevalidate ? HAS_DATA : WITHOUT_DATA));
         dest.writeString(defaultDatabaseConnection);
         dest.writeInt(usernameStyle);
         dest.writeInt(initialScreen);
@@ -220,6 +233,11 @@ public class Options implements Parcelable {
         dest.writeString(scope);
         dest.writeString(audience);
         dest.writeString(scheme);
+        dest.writeLong(configurationCacheTTL);
+        dest.writeLong(configurationRequestTimeout);
+        dest.writeInt(configurationRequestRetries);
+        dest.writeLong(configurationHedgingDelay);
+        dest.writeString(executorId);
         if (connections == null) {
             dest.writeByte((byte) (WITHOUT_DATA));
         } else {
@@ -554,6 +572,55 @@ public class Options implements Parcelable {
         return visibleSignUpFieldsthreshold;
     }
 
+    public void setConfigurationCacheTTL(long ttl) {
+        this.configurationCacheTTL = ttl;
+    }
+
+    public long getConfigurationCacheTTL() {
+        return configurationCacheTTL;
+    }
+
+    public void setConfigurationRequestTimeout(long timeout) {
+        this.configurationRequestTimeout = timeout;
+    }
+
+    public long getConfigurationRequestTimeout() {
+        return configurationRequestTimeout;
+    }
+
+    public void setConfigurationRequestRetries(int retries) {
+        this.configurationRequestRetries = retries;
+    }
+
+    public int getConfigurationRequestRetries() {
+        return configurationRequestRetries;
+    }
+
+    public void setConfigurationHedgingDelay(long delay) {
+        this.configurationHedgingDelay = delay;
+    }
+
+    public long getConfigurationHedgingDelay() {
+        return configurationHedgingDelay;
+    }
+
+    public void setExecutorId(@Nullable String executorId) {
+        this.executorId = executorId;
+    }
+
+    @Nullable
+    public String getExecutorId() {
+        return executorId;
+    }
+
+    public void setStaleWhileRevalidate(boolean staleWhileRevalidate) {
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    public boolean staleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
     public void withCustomTabsOptions(@NonNull CustomTabsOptions customTabsOptions) {
         this.customTabsOptions = customTabsOptions;
     }
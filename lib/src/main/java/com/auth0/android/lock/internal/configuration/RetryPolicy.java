@@ -0,0 +1,272 @@
+/*
+ * RetryPolicy.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.internal.configuration;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.auth0.android.request.NetworkingClient;
+import com.auth0.android.request.RequestOptions;
+import com.auth0.android.request.ServerResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds the time spent downloading the Application information. Each attempt is given a limited time to
+ * complete, and the attempts that fail, time out or get a server error are retried after an exponential
+ * backoff with jitter. Optionally, a second identical request is sent when the first one is slow to answer,
+ * and the response that arrives first is used.
+ * <p>
+ * The attempts run on threads owned by the policy and not on the Lock executor that runs the fetch, so that
+ * waiting for them can't starve that executor and the timeouts still apply when it runs the tasks directly.
+ * <p>
+ * Disclaimer: The classes in the internal package may change in the future. Don't use them directly.
+ */
+public class RetryPolicy {
+
+    private static final String TAG = RetryPolicy.class.getSimpleName();
+    private static final long INITIAL_BACKOFF = 250;
+    private static final long MAX_BACKOFF = 4000;
+    private static final int HTTP_SERVER_ERROR = 500;
+    private static final long KEEP_ALIVE_SECONDS = 30;
+    private static final int MAX_ATTEMPT_THREADS = 6;
+
+    private static Executor attemptExecutor;
+
+    private final long attemptTimeout;
+    private final int maxRetries;
+    private final long hedgingDelay;
+    private final long initialBackoff;
+    private final Executor executor;
+
+    @VisibleForTesting
+    RetryPolicy(long attemptTimeout, int maxRetries, long hedgingDelay, long initialBackoff) {
+        this(attemptTimeout, maxRetries, hedgingDelay, initialBackoff, getAttemptExecutor());
+    }
+
+    @VisibleForTesting
+    RetryPolicy(long attemptTimeout, int maxRetries, long hedgingDelay, long initialBackoff, @NonNull Executor executor) {
+        this.attemptTimeout = attemptTimeout;
+        this.maxRetries = maxRetries;
+        this.hedgingDelay = hedgingDelay;
+        this.initialBackoff = initialBackoff;
+        this.executor = executor;
+    }
+
+    /**
+     * Getter for the pool that runs the attempts. Its threads are created on demand and stop after being idle for a
+     * while. A fetch uses at most two of them at once, and concurrent fetches of the same Application are shared.
+     * An attempt that timed out keeps its thread until the connection gives up, so the pool is bounded and rejects
+     * new attempts while every thread is busy.
+     *
+     * @return the Executor shared by every policy.
+     */
+    @NonNull
+    private static synchronized Executor getAttemptExecutor() {
+        if (attemptExecutor == null) {
+            final AtomicInteger count = new AtomicInteger(1);
+            attemptExecutor = new ThreadPoolExecutor(0, MAX_ATTEMPT_THREADS, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                final Thread thread = new Thread(runnable, "Lock-Retry-" + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+        }
+        return attemptExecutor;
+    }
+
+    /**
+     * Creates a new policy with the timeout, retries and hedging delay defined in the Options.
+     *
+     * @param options the Lock options
+     * @return a new policy instance, or null if none of its values were set in the Options.
+     */
+    @Nullable
+    public static RetryPolicy from(@NonNull Options options) {
+        final long timeout = Math.max(0, options.getConfigurationRequestTimeout());
+        final int retries = Math.max(0, options.getConfigurationRequestRetries());
+        final long hedgingDelay = Math.max(0, options.getConfigurationHedgingDelay());
+        if (timeout == 0 && retries == 0 && hedgingDelay == 0) {
+            return null;
+        }
+        return new RetryPolicy(timeout, retries, hedgingDelay, INITIAL_BACKOFF);
+    }
+
+    /**
+     * Makes the request following this policy. The body of the returned response is already read into memory.
+     *
+     * @param client  the client to make the requests with
+     * @param url     the url to request
+     * @param options the options of the request
+     * @return the first successful response, or the last response received if every attempt got a server error.
+     * @throws IOException if the last attempt failed or timed out, or if the calling thread was interrupted.
+     */
+    @NonNull
+    ServerResponse load(@NonNull NetworkingClient client, @NonNull String url, @NonNull RequestOptions options) throws IOException {
+        final Callable<ServerResponse> request = () -> readFully(client.load(url, options));
+        ServerResponse response = null;
+        IOException error = null;
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            if (attempt > 0) {
+                sleep(backoffFor(attempt));
+            }
+            try {
+                response = attempt(request);
+                error = null;
+                if (response.getStatusCode() < HTTP_SERVER_ERROR) {
+                    return response;
+                }
+                Log.w(TAG, String.format("Attempt %d to fetch the Application info got the status code %d", attempt + 1, response.getStatusCode()));
+            } catch (IOException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                Log.w(TAG, String.format("Attempt %d to fetch the Application info failed", attempt + 1), e);
+                response = null;
+                error = e;
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return response;
+    }
+
+    /**
+     * Computes the time to wait before the given retry: half of the exponential backoff plus a random part up to the other half.
+     *
+     * @param retry the number of the retry, starting at 1
+     * @return the delay in milliseconds.
+     */
+    @VisibleForTesting
+    long backoffFor(int retry) {
+        final long backoff = Math.min(MAX_BACKOFF, initialBackoff << Math.min(retry - 1, 16));
+        final long half = backoff / 2;
+        return half + ThreadLocalRandom.current().nextLong(backoff - half + 1);
+    }
+
+    @NonNull
+    private ServerResponse attempt(@NonNull Callable<ServerResponse> request) throws IOException {
+        final CompletionService<ServerResponse> service = new ExecutorCompletionService<>(executor);
+        final List<Future<ServerResponse>> requests = new ArrayList<>(2);
+        final long deadline = attemptTimeout > 0 ? System.currentTimeMillis() + attemptTimeout : Long.MAX_VALUE;
+        try {
+            try {
+                requests.add(service.submit(request));
+            } catch (RejectedExecutionException e) {
+                //counts as a failed attempt, so it's retried after the backoff
+                throw new IOException("Too many requests are still waiting for a response", e);
+            }
+            Future<ServerResponse> done = null;
+            if (hedgingDelay > 0) {
+                done = service.poll(Math.min(hedgingDelay, remainingUntil(deadline)), TimeUnit.MILLISECONDS);
+                if (done == null && remainingUntil(deadline) > 0) {
+                    Log.d(TAG, "The Application info request is slow, sending a second one");
+                    try {
+                        requests.add(service.submit(request));
+                    } catch (RejectedExecutionException e) {
+                        Log.d(TAG, "No thread is available for the second request, waiting for the first one");
+                    }
+                }
+            }
+            int pending = requests.size();
+            while (pending > 0) {
+                if (done == null) {
+                    final long remaining = remainingUntil(deadline);
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    done = attemptTimeout > 0 ? service.poll(remaining, TimeUnit.MILLISECONDS) : service.take();
+                    if (done == null) {
+                        break;
+                    }
+                }
+                pending--;
+                try {
+                    final ServerResponse response = done.get();
+                    if (response.getStatusCode() < HTTP_SERVER_ERROR || pending == 0) {
+                        return response;
+                    }
+                } catch (ExecutionException e) {
+                    if (pending == 0) {
+                        throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+                    }
+                }
+                //the other request may still succeed
+                done = null;
+            }
+            throw new SocketTimeoutException(String.format("The request didn't complete in %d ms", attemptTimeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("The request was cancelled");
+        } finally {
+            for (Future<ServerResponse> f : requests) {
+                f.cancel(true);
+            }
+        }
+    }
+
+    private static long remainingUntil(long deadline) {
+        return deadline == Long.MAX_VALUE ? Long.MAX_VALUE : deadline - System.currentTimeMillis();
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("The request was cancelled");
+        }
+    }
+
+    @NonNull
+    private static ServerResponse readFully(@NonNull ServerResponse response) throws IOException {
+        final byte[] body;
+        try (InputStream is = response.getBody()) {
+            body = ApplicationFetcher.readBody(is);
+        }
+        return new ServerResponse(response.getStatusCode(), new ByteArrayInputStream(body), response.getHeaders());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * CountryCodes.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.utils;
+
+import androidx.annotation.NonNull;
+
+import com.auth0.android.lock.adapters.Country;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Table of the countries and dial codes available in the passwordless phone number input, sorted by ISO code.
+ * Use the {@link CountryRepository} to obtain the list shared by the whole process.
+ */
+final class CountryCodes {
+
+    private static final String[] ISO_CODES = {
+            "AD", "AE", "AF", "AG", "AI", "AL", "AM", "AN", "AO", "AR", "AS", "AT", "AU", "AW", "AX", "AZ", "BA", "BB",
+            "BD", "BE", "BF", "BG", "BH", "BI", "BJ", "BL", "BM", "BN", "BO", "BR", "BS", "BT", "BW", "BY", "BZ", "CA",
+            "CC", "CD", "CF", "CG", "CH", "CI", "CK", "CL", "CM", "CN", "CO", "CR", "CU", "CV", "CX", "CY", "CZ", "DE",
+            "DJ", "DK", "DM", "DO", "DZ", "EC", "EE", "EG", "ER", "ES", "ET", "FI", "FJ", "FK", "FM", "FO", "FR", "GA",
+            "GB", "GD", "GE", "GF", "GG", "GH", "GI", "GL", "GM", "GN", "GP", "GQ", "GR", "GS", "GT", "GU", "GW", "GY",
+            "HK", "HN", "HR", "HT", "HU", "ID", "IE", "IL", "IM", "IN", "IO", "IQ", "IR", "IS", "IT", "JE", "JM", "JO",
+            "JP", "KE", "KG", "KH", "KI", "KM", "KN", "KP", "KR", "KW", "KY", "KZ", "LA", "LB", "LC", "LI", "LK", "LR",
+            "LS", "LT", "LU", "LV", "LY", "MA", "MC", "MD", "ME", "MF", "MG", "MH", "MK", "ML", "MM", "MN", "MO", "MP",
+            "MQ", "MR", "MS", "MT", "MU", "MV", "MW", "MX", "MY", "MZ", "NA", "NC", "NE", "NF", "NG", "NI", "NL", "NO",
+            "NP", "NR", "NU", "NZ", "OM", "PA", "PE", "PF", "PG", "PH", "PK", "PL", "PM", "PN", "PR", "PS", "PT", "PW",
+            "PY", "QA", "RE", "RO", "RS", "RU", "RW", "SA", "SB", "SC", "SD", "SE", "SG", "SH", "SI", "SJ", "SK", "SL",
+            "SM", "SN", "SO", "SR", "ST", "SV", "SY", "SZ", "TC", "TD", "TG", "TH", "TJ", "TK", "TL", "TM", "TN", "TO",
+            "TR", "TT", "TV", "TW", "TZ", "UA", "UG", "US", "UY", "UZ", "VA", "VC", "VE", "VG", "VI", "VN", "VU", "WF",
+            "WS", "YE", "YT", "ZA", "ZM", "ZW",
+    };
+
+    private static final String[] DIAL_CODES = {
+            "+376", "+971", "+93", "+1268", "+1 264", "+355", "+374", "+599", "+244", "+54", "+1 684", "+43", "+61",
+            "+297", "+358", "+994", "+387", "+1 246", "+880", "+32", "+226", "+359", "+973", "+257", "+229", "+590",
+            "+1 441", "+673", "+591", "+55", "+1 242", "+975", "+267", "+375", "+501", "+1", "+61", "+243", "+236",
+            "+242", "+41", "+225", "+682", "+56", "+237", "+86", "+57", "+506", "+53", "+238", "+61", "+357", "+420",
+            "+49", "+253", "+45", "+1 767", "+1 849", "+213", "+593", "+372", "+20", "+291", "+34", "+251", "+358",
+            "+679", "+500", "+691", "+298", "+33", "+241", "+44", "+1 473", "+995", "+594", "+44", "+233", "+350",
+            "+299", "+220", "+224", "+590", "+240", "+30", "+500", "+502", "+1 671", "+245", "+595", "+852", "+504",
+            "+385", "+509", "+36", "+62", "+353", "+972", "+44", "+91", "+246", "+964", "+98", "+354", "+39", "+44",
+            "+1 876", "+962", "+81", "+254", "+996", "+855", "+686", "+269", "+1 869", "+850", "+82", "+965", "+ 345",
+            "+7 7", "+856", "+961", "+1 758", "+423", "+94", "+231", "+266", "+370", "+352", "+371", "+218", "+212",
+            "+377", "+373", "+382", "+590", "+261", "+692", "+389", "+223", "+95", "+976", "+853", "+1 670", "+596",
+            "+222", "+1664", "+356", "+230", "+960", "+265", "+52", "+60", "+258", "+264", "+687", "+227", "+672",
+            "+234", "+505", "+31", "+47", "+977", "+674", "+683", "+64", "+968", "+507", "+51", "+689", "+675", "+63",
+            "+92", "+48", "+508", "+872", "+1 939", "+970", "+351", "+680", "+595", "+974", "+262", "+40", "+381", "+7",
+            "+250", "+966", "+677", "+248", "+249", "+46", "+65", "+290", "+386", "+47", "+421", "+232", "+378", "+221",
+            "+252", "+597", "+239", "+503", "+963", "+268", "+1 649", "+235", "+228", "+66", "+992", "+690", "+670",
+            "+993", "+216", "+676", "+90", "+1 868", "+688", "+886", "+255", "+380", "+256", "+1", "+598", "+998",
+            "+379", "+1 784", "+58", "+1 284", "+1 340", "+84", "+678", "+681", "+685", "+967", "+262", "+27", "+260",
+            "+263",
+    };
+
+    private CountryCodes() {
+    }
+
+    /**
+     * Creates the list of countries, sorted by ISO code.
+     *
+     * @return a new unmodifiable list of countries.
+     */
+    @NonNull
+    static List<Country> createCountries() {
+        final List<Country> list = new ArrayList<>(ISO_CODES.length);
+        for (int i = 0; i < ISO_CODES.length; i++) {
+            list.add(new Country(ISO_CODES[i], DIAL_CODES[i]));
+        }
+        return Collections.unmodifiableList(list);
+    }
+}
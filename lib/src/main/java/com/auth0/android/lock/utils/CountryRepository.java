@@ -0,0 +1,116 @@
+/*
+ * CountryRepository.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
+
+import com.auth0.android.lock.adapters.Country;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Process-wide holder of the countries available in the passwordless phone number input.
+ * The list is loaded once, from a background thread, and every later request is served from memory.
+ * Use a {@link LoadCountriesTask} to obtain the countries from the main thread.
+ */
+public final class CountryRepository {
+
+    private static final CountryRepository INSTANCE = new CountryRepository();
+
+    private volatile List<Country> countries;
+    private volatile Map<String, Country> countriesByIsoCode;
+
+    @VisibleForTesting
+    CountryRepository() {
+    }
+
+    /**
+     * Getter for the instance shared by the whole process.
+     *
+     * @return the shared CountryRepository.
+     */
+    @NonNull
+    public static CountryRepository getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Whether the countries were already loaded and can be obtained without blocking.
+     *
+     * @return true if the countries are in memory, false otherwise.
+     */
+    public boolean isLoaded() {
+        return countries != null;
+    }
+
+    /**
+     * Loads the countries if they weren't loaded yet. Subsequent calls return the same list.
+     *
+     * @return the unmodifiable list of countries, sorted by ISO code.
+     */
+    @WorkerThread
+    @NonNull
+    public synchronized List<Country> load() {
+        if (countries == null) {
+            final List<Country> list = CountryCodes.createCountries();
+            final Map<String, Country> map = new HashMap<>(list.size() * 2);
+            for (Country c : list) {
+                map.put(c.getIsoCode(), c);
+            }
+            countriesByIsoCode = Collections.unmodifiableMap(map);
+            countries = list;
+        }
+        return countries;
+    }
+
+    /**
+     * Getter for the loaded countries.
+     *
+     * @return the unmodifiable list of countries sorted by ISO code, or null if they weren't loaded yet.
+     */
+    @Nullable
+    public List<Country> getCountries() {
+        return countries;
+    }
+
+    /**
+     * Finds the loaded Country with the given ISO code.
+     *
+     * @param isoCode the ISO 3166-1 alpha-2 code of the country, i.e. "US".
+     * @return the Country, or null if it doesn't exist or the countries weren't loaded yet.
+     */
+    @Nullable
+    public Country findByIsoCode(@NonNull String isoCode) {
+        final Map<String, Country> map = countriesByIsoCode;
+        return map == null ? null : map.get(isoCode.toUpperCase(Locale.ROOT));
+    }
+}
@@ -158,6 +158,22 @@ public class CustomField extends SignUpField {
         return type;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) return false;
+        CustomField that = (CustomField) o;
+        return icon == that.icon && type == that.type && hint == that.hint;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + icon;
+        result = 31 * result + type;
+        result = 31 * result + hint;
+        return result;
+    }
+
     protected CustomField(@NonNull Parcel in) {
         super(in);
         icon = in.readInt();
@@ -30,24 +30,43 @@ import android.util.Log;
 
 import com.auth0.android.lock.internal.configuration.OAuthConnection;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Helper class to find out which email domains can be valid for the current Auth0 configuration.
+ * The result of the last lookup is remembered, so calling {@link #parse(String)} repeatedly while the
+ * user types the username part of the email doesn't repeat the work. Instances are meant to be used
+ * from a single thread.
  */
 public class EnterpriseConnectionMatcher {
 
     private static final String TAG = EnterpriseConnectionMatcher.class.getSimpleName();
     private static final String DOMAIN_KEY = "domain";
-    private static final String DOMAIN_ALIASES_KEY = "domain_aliases";
     private static final String AT_SYMBOL = "@";
 
-    private final List<OAuthConnection> connections;
+    private final Map<String, OAuthConnection> connectionsByDomain;
+    private final String[] sortedDomains;
+
+    private String lastDomain;
+    private OAuthConnection lastConnection;
+    private boolean lastDomainIsPrefix;
 
     public EnterpriseConnectionMatcher(@NonNull List<OAuthConnection> connections) {
-        this.connections = new ArrayList<>(connections);
-        Log.v(TAG, String.format("Creating a new instance to match %d Enterprise Connections", this.connections.size()));
+        connectionsByDomain = new HashMap<>();
+        for (OAuthConnection c : connections) {
+            for (String domain : c.getDomainSet()) {
+                //the first connection declaring a domain takes precedence
+                if (!connectionsByDomain.containsKey(domain)) {
+                    connectionsByDomain.put(domain, c);
+                }
+            }
+        }
+        sortedDomains = connectionsByDomain.keySet().toArray(new String[0]);
+        Arrays.sort(sortedDomains);
+        Log.v(TAG, String.format("Creating a new instance to match %d Enterprise Connections by %d domains", connections.size(), sortedDomains.length));
     }
 
     /**
@@ -58,29 +77,54 @@ public class EnterpriseConnectionMatcher {
      */
     @Nullable
     public OAuthConnection parse(@NonNull String email) {
-        String domain = extractDomain(email);
-        if (domain == null) {
-            return null;
-        }
+        return updateDomain(email) ? lastConnection : null;
+    }
 
-        domain = domain.toLowerCase();
-        for (OAuthConnection c : connections) {
-            String mainDomain = domainForConnection(c);
-            if (domain.equalsIgnoreCase(mainDomain)) {
-                return c;
-            }
+    /**
+     * Whether the domain typed so far in the given input is a known domain, or the beginning of exactly one
+     * known domain even if it's not complete yet. i.e. "john@acm" for a connection with the "acme.com" domain,
+     * as long as no other domain starts with "acm".
+     *
+     * @param email to search the Domain for.
+     * @return true if the domain of the input can only become one known domain, false otherwise.
+     */
+    public boolean matchesDomainPrefix(@NonNull String email) {
+        return updateDomain(email) && lastDomainIsPrefix;
+    }
 
-            //noinspection unchecked
-            List<String> aliases = c.valueForKey(DOMAIN_ALIASES_KEY, List.class);
-            if (aliases != null) {
-                for (String d : aliases) {
-                    if (d.equalsIgnoreCase(domain)) {
-                        return c;
-                    }
-                }
-            }
+    /**
+     * Extracts the domain of the email and, if it differs from the last one, looks up the
+     * matching connection and whether it's the prefix of a known domain.
+     *
+     * @param email to parse
+     * @return false if the email has no domain, true otherwise.
+     */
+    private boolean updateDomain(@NonNull String email) {
+        int indexAt = email.indexOf(AT_SYMBOL) + 1;
+        if (indexAt == 0 || indexAt == email.length()) {
+            return false;
+        }
+        final int length = email.length() - indexAt;
+        if (lastDomain != null && lastDomain.length() == length && email.regionMatches(indexAt, lastDomain, 0, length)) {
+            return true;
+        }
+        lastDomain = email.substring(indexAt);
+        final String domain = lastDomain.toLowerCase();
+        lastConnection = connectionsByDomain.get(domain);
+        lastDomainIsPrefix = lastConnection != null || isPrefixOfSingleKnownDomain(domain);
+        return true;
+    }
+
+    private boolean isPrefixOfSingleKnownDomain(@NonNull String prefix) {
+        int index = Arrays.binarySearch(sortedDomains, prefix);
+        if (index >= 0) {
+            return true;
         }
-        return null;
+        index = -index - 1;
+        //the domains starting with the prefix are sorted next to each other
+        final boolean matchesOne = index < sortedDomains.length && sortedDomains[index].startsWith(prefix);
+        final boolean matchesMore = index + 1 < sortedDomains.length && sortedDomains[index + 1].startsWith(prefix);
+        return matchesOne && !matchesMore;
     }
 
     /**
@@ -98,25 +142,6 @@ public class EnterpriseConnectionMatcher {
         return email.substring(0, indexAt);
     }
 
-    /**
-     * Extracts the domain part from the email
-     *
-     * @param email to parse
-     * @return the domain String if found, an empty String otherwise
-     */
-    @Nullable
-    private String extractDomain(String email) {
-        int indexAt = email.indexOf(AT_SYMBOL) + 1;
-        if (indexAt == 0) {
-            return null;
-        }
-        String domain = email.substring(indexAt);
-        if (domain.isEmpty()) {
-            return null;
-        }
-        return domain;
-    }
-
     /**
      * Extracts the Connection's main domain.
      *
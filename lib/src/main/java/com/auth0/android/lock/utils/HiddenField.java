@@ -25,6 +25,18 @@ public class HiddenField extends SignUpField {
         return value;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) return false;
+        HiddenField that = (HiddenField) o;
+        return value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + value.hashCode();
+    }
+
     protected HiddenField(@NonNull Parcel in) {
         super(in);
         value = in.readString();
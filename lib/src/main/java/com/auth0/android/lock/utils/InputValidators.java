@@ -0,0 +1,122 @@
+/*
+ * InputValidators.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.auth0.android.lock.views.ValidatedInputView;
+import com.auth0.android.lock.views.ValidatedInputView.DataType;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.auth0.android.lock.internal.configuration.DatabaseConnection.MAX_USERNAME_LENGTH;
+import static com.auth0.android.lock.internal.configuration.DatabaseConnection.MIN_USERNAME_LENGTH;
+
+/**
+ * Shared registry of the validations applied to the Lock input fields, including the ones created
+ * from a {@link CustomField}. The patterns are compiled once, and each thread reuses its own Matcher
+ * instances, so validating on every keystroke doesn't allocate new regex objects. Safe to use from any thread.
+ */
+public final class InputValidators {
+
+    private static final PrecompiledPattern USERNAME = new PrecompiledPattern(ValidatedInputView.USERNAME_REGEX);
+    private static final PrecompiledPattern EMAIL = new PrecompiledPattern(ValidatedInputView.EMAIL_REGEX);
+    private static final PrecompiledPattern PHONE_NUMBER = new PrecompiledPattern(ValidatedInputView.PHONE_NUMBER_REGEX);
+    private static final PrecompiledPattern CODE = new PrecompiledPattern(ValidatedInputView.CODE_REGEX);
+
+    private InputValidators() {
+    }
+
+    /**
+     * Validates the given value against the rules of the given type of input.
+     * Empty values are always invalid; callers decide whether to skip validating empty fields.
+     *
+     * @param dataType the type of input the value belongs to.
+     * @param value    the value to validate.
+     * @return whether the value is valid or not.
+     */
+    public static boolean isValid(@DataType int dataType, @NonNull String value) {
+        switch (dataType) {
+            case DataType.TEXT_NAME:
+            case DataType.NUMBER:
+            case DataType.PASSWORD:
+            case DataType.NON_EMPTY_USERNAME:
+                return !value.isEmpty();
+            case DataType.EMAIL:
+                return isEmail(value);
+            case DataType.USERNAME:
+                return isUsername(value) && value.length() >= MIN_USERNAME_LENGTH && value.length() <= MAX_USERNAME_LENGTH;
+            case DataType.USERNAME_OR_EMAIL:
+                return isEmail(value) || isUsername(value) && value.length() >= MIN_USERNAME_LENGTH && value.length() <= MAX_USERNAME_LENGTH;
+            case DataType.MOBILE_PHONE:
+            case DataType.PHONE_NUMBER:
+                return PHONE_NUMBER.matches(value);
+            case DataType.MFA_CODE:
+                return CODE.matches(value);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Whether the given value has a valid email format.
+     *
+     * @param value the value to check.
+     * @return true if it's a valid email, false otherwise.
+     */
+    public static boolean isEmail(@Nullable String value) {
+        return value != null && EMAIL.matches(value);
+    }
+
+    /**
+     * Whether the given value only contains the characters allowed in a username. The length is not checked.
+     *
+     * @param value the value to check.
+     * @return true if it's a valid username, false otherwise.
+     */
+    public static boolean isUsername(@Nullable String value) {
+        return value != null && USERNAME.matches(value);
+    }
+
+    private static class PrecompiledPattern {
+        private final Pattern pattern;
+        private final ThreadLocal<Matcher> matchers = new ThreadLocal<Matcher>() {
+            @Override
+            protected Matcher initialValue() {
+                return pattern.matcher("");
+            }
+        };
+
+        PrecompiledPattern(@NonNull String regex) {
+            this.pattern = Pattern.compile(regex);
+        }
+
+        boolean matches(@NonNull CharSequence input) {
+            return matchers.get().reset(input).matches();
+        }
+    }
+}
@@ -25,49 +25,100 @@
 package com.auth0.android.lock.utils;
 
 import android.content.Context;
-import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
 
 import com.auth0.android.lock.adapters.Country;
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import com.auth0.android.lock.internal.LockExecutor;
 
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.Future;
 
-public abstract class LoadCountriesTask extends AsyncTask<Context, Void, List<Country>> {
+/**
+ * Loads the list of countries on the background worker of Lock, and delivers
+ * the result on the main thread through {@link #onPostExecute(List)}.
+ */
+public abstract class LoadCountriesTask {
 
     private static final String TAG = LoadCountriesTask.class.getName();
-    private static final String COUNTRIES_JSON_FILE = "com_auth0_lock_passwordless_countries.json";
 
-    @Override
-    @NonNull
-    protected List<Country> doInBackground(@NonNull Context... params) {
-        final Type mapType = new TypeToken<Map<String, String>>() {
-        }.getType();
-        Map<String, String> codes = Collections.emptyMap();
-        try {
-            final Reader reader = new InputStreamReader(params[0].getAssets().open(COUNTRIES_JSON_FILE));
-            codes = new Gson().fromJson(reader, mapType);
-            Log.d(TAG, String.format("Loaded %d countries", codes.size()));
-        } catch (IOException e) {
-            Log.e(TAG, "Failed to load the countries list from the JSON file", e);
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private volatile boolean cancelled;
+    private Future<?> future;
+
+    /**
+     * Starts loading the countries in the background. If the {@link CountryRepository} already has them
+     * in memory, they are delivered right away without using the executor.
+     *
+     * @param context a valid Context
+     */
+    public void execute(@NonNull final Context context) {
+        final List<Country> loaded = CountryRepository.getInstance().getCountries();
+        if (loaded != null) {
+            handler.post(() -> {
+                if (!cancelled) {
+                    onPostExecute(loaded);
+                }
+            });
+            return;
         }
-        final ArrayList<String> names = new ArrayList<>(codes.keySet());
-        Collections.sort(names);
-        List<Country> countries = new ArrayList<>(names.size());
-        for (String name : names) {
-            countries.add(new Country(name, codes.get(name)));
+        final Context appContext = context.getApplicationContext();
+        future = LockExecutor.submit(LockExecutor.getBackgroundExecutor(), () -> {
+            final List<Country> countries = doInBackground(appContext);
+            if (cancelled) {
+                return;
+            }
+            handler.post(() -> {
+                if (!cancelled) {
+                    onPostExecute(countries);
+                }
+            });
+        });
+    }
+
+    /**
+     * Cancels the task. The result won't be delivered after this call.
+     *
+     * @param mayInterruptIfRunning whether the thread loading the countries should be interrupted.
+     * @return false if the task had already been cancelled, true otherwise.
+     */
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (cancelled) {
+            return false;
+        }
+        cancelled = true;
+        if (future != null) {
+            future.cancel(mayInterruptIfRunning);
         }
+        return true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Loads the list of countries. Runs in the background.
+     *
+     * @param context a valid Context
+     * @return the shared, unmodifiable list of countries sorted by ISO code.
+     */
+    @NonNull
+    protected List<Country> doInBackground(@NonNull Context context) {
+        final List<Country> countries = CountryRepository.getInstance().load();
+        Log.d(TAG, String.format("Loaded %d countries", countries.size()));
         return countries;
     }
 
-}
\ No newline at end of file
+    /**
+     * Called on the main thread with the loaded countries, unless the task was cancelled.
+     *
+     * @param result the list of countries sorted by ISO code.
+     */
+    protected void onPostExecute(@NonNull List<Country> result) {
+    }
+
+}
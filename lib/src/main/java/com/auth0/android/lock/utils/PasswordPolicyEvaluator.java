@@ -0,0 +1,250 @@
+/*
+ * PasswordPolicyEvaluator.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.auth0.android.lock.internal.configuration.PasswordComplexity;
+import com.auth0.android.lock.internal.configuration.PasswordStrength;
+
+/**
+ * Evaluates passwords against a {@link PasswordComplexity} in a single pass over the input,
+ * counting the characters of each class and the longest run of identical characters.
+ * It doesn't depend on any view, so it can also be used to check a password headlessly.
+ *
+ * @see "https://auth0.com/docs/connections/database/password-strength"
+ */
+public final class PasswordPolicyEvaluator {
+
+    static final int MAX_IDENTICAL_CHARACTERS = 2;
+    static final int MAX_LENGTH = 128;
+    private static final int MIN_LENGTH_EXCELLENT = 10;
+    private static final int MIN_LENGTH_GOOD = 8;
+    private static final int MIN_LENGTH_FAIR = 8;
+    private static final int MIN_LENGTH_LOW = 6;
+    private static final int MIN_LENGTH_NONE = 1;
+
+    private static final String SPECIAL_CHARACTERS = " !\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+
+    private final PasswordComplexity complexity;
+
+    public PasswordPolicyEvaluator(@NonNull PasswordComplexity complexity) {
+        this.complexity = complexity;
+    }
+
+    /**
+     * Getter for the password complexity this evaluator validates.
+     *
+     * @return the password complexity.
+     */
+    @NonNull
+    public PasswordComplexity getComplexity() {
+        return complexity;
+    }
+
+    /**
+     * The minimum length a password requires to be valid, taking into account the length override if any.
+     *
+     * @return the minimum password length.
+     */
+    public int getMinimumLength() {
+        Integer minLengthOverride = complexity.getMinLengthOverride();
+        if (minLengthOverride != null) {
+            return minLengthOverride;
+        }
+        switch (complexity.getPasswordPolicy()) {
+            case PasswordStrength.EXCELLENT:
+                return MIN_LENGTH_EXCELLENT;
+            case PasswordStrength.GOOD:
+                return MIN_LENGTH_GOOD;
+            case PasswordStrength.FAIR:
+                return MIN_LENGTH_FAIR;
+            case PasswordStrength.LOW:
+                return MIN_LENGTH_LOW;
+            default:
+            case PasswordStrength.NONE:
+                return MIN_LENGTH_NONE;
+        }
+    }
+
+    /**
+     * Scans the given password and checks every requirement of the policy.
+     *
+     * @param password the password to evaluate.
+     * @return the result of the evaluation.
+     */
+    @NonNull
+    public Result evaluate(@NonNull String password) {
+        int uppercase = 0;
+        int lowercase = 0;
+        int numeric = 0;
+        int special = 0;
+        int maxRun = 0;
+        int run = 0;
+        int previous = -1;
+        for (int i = 0; i < password.length(); ) {
+            final int c = password.codePointAt(i);
+            i += Character.charCount(c);
+            if (c >= 'A' && c <= 'Z') {
+                uppercase++;
+            } else if (c >= 'a' && c <= 'z') {
+                lowercase++;
+            } else if (c >= '0' && c <= '9') {
+                numeric++;
+            } else if (c < 128 && SPECIAL_CHARACTERS.indexOf(c) != -1) {
+                special++;
+            }
+            run = c == previous ? run + 1 : 1;
+            previous = c;
+            if (run > maxRun) {
+                maxRun = run;
+            }
+        }
+        return new Result(password.length(), getMinimumLength(), uppercase, lowercase, numeric, special, maxRun, complexity.getPasswordPolicy());
+    }
+
+    /**
+     * Checks that all the requirements are met.
+     *
+     * @param password the password to validate.
+     * @return whether the given password complies with the password policy or not.
+     */
+    public boolean isValid(@Nullable String password) {
+        return password != null && evaluate(password).isValid();
+    }
+
+    /**
+     * The outcome of evaluating a password. Exposes each individual requirement so it can be displayed to the user.
+     */
+    public static final class Result {
+        private final int length;
+        private final int minimumLength;
+        private final int uppercaseCount;
+        private final int lowercaseCount;
+        private final int numericCount;
+        private final int specialCount;
+        private final int maxIdenticalRun;
+        @PasswordStrength
+        private final int policy;
+
+        Result(int length, int minimumLength, int uppercaseCount, int lowercaseCount, int numericCount, int specialCount, int maxIdenticalRun, @PasswordStrength int policy) {
+            this.length = length;
+            this.minimumLength = minimumLength;
+            this.uppercaseCount = uppercaseCount;
+            this.lowercaseCount = lowercaseCount;
+            this.numericCount = numericCount;
+            this.specialCount = specialCount;
+            this.maxIdenticalRun = maxIdenticalRun;
+            this.policy = policy;
+        }
+
+        public int getUppercaseCount() {
+            return uppercaseCount;
+        }
+
+        public int getLowercaseCount() {
+            return lowercaseCount;
+        }
+
+        public int getNumericCount() {
+            return numericCount;
+        }
+
+        public int getSpecialCount() {
+            return specialCount;
+        }
+
+        /**
+         * The length of the longest sequence of identical consecutive characters.
+         *
+         * @return the longest run of identical characters.
+         */
+        public int getMaxIdenticalRun() {
+            return maxIdenticalRun;
+        }
+
+        public boolean hasMinimumLength() {
+            return length >= minimumLength && length <= MAX_LENGTH;
+        }
+
+        public boolean hasUppercaseCharacters() {
+            return uppercaseCount > 0;
+        }
+
+        public boolean hasLowercaseCharacters() {
+            return lowercaseCount > 0;
+        }
+
+        public boolean hasNumericCharacters() {
+            return numericCount > 0;
+        }
+
+        public boolean hasSpecialCharacters() {
+            return specialCount > 0;
+        }
+
+        /**
+         * Whether the password has no more than {@link #MAX_IDENTICAL_CHARACTERS} identical characters in a row.
+         *
+         * @return true if there are no long sequences of identical characters, false otherwise.
+         */
+        public boolean hasNoIdenticalCharacters() {
+            return maxIdenticalRun <= MAX_IDENTICAL_CHARACTERS;
+        }
+
+        /**
+         * Whether the password complies with every requirement of the policy.
+         *
+         * @return true if the password is valid, false otherwise.
+         */
+        public boolean isValid() {
+            if (!hasMinimumLength()) {
+                return false;
+            }
+            switch (policy) {
+                case PasswordStrength.EXCELLENT:
+                    return hasNoIdenticalCharacters() && hasAtLeastThreeCharacterClasses();
+                case PasswordStrength.GOOD:
+                    return hasAtLeastThreeCharacterClasses();
+                case PasswordStrength.FAIR:
+                    return hasLowercaseCharacters() && hasUppercaseCharacters() && hasNumericCharacters();
+                case PasswordStrength.LOW:
+                case PasswordStrength.NONE:
+                default:
+                    return true;
+            }
+        }
+
+        private boolean hasAtLeastThreeCharacterClasses() {
+            int classes = 0;
+            classes += hasLowercaseCharacters() ? 1 : 0;
+            classes += hasUppercaseCharacters() ? 1 : 0;
+            classes += hasNumericCharacters() ? 1 : 0;
+            classes += hasSpecialCharacters() ? 1 : 0;
+            return classes >= 3;
+        }
+    }
+}
@@ -38,6 +38,19 @@ public abstract class SignUpField implements Parcelable {
         storage = in.readInt();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SignUpField that = (SignUpField) o;
+        return storage == that.storage && key.equals(that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * key.hashCode() + storage;
+    }
+
     @Override
     public int describeContents() {
         return 0;
@@ -2,8 +2,11 @@ package com.auth0.android.lock.views;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.graphics.drawable.Drawable;
+import android.util.SparseArray;
+
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 import androidx.annotation.StyleRes;
@@ -13,8 +16,23 @@ import androidx.core.content.ContextCompat;
 import com.auth0.android.lock.R;
 import com.auth0.android.lock.internal.configuration.OAuthConnection;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class AuthConfig {
 
+    /**
+     * The attributes resolved for every style, sorted as obtainStyledAttributes requires.
+     */
+    private static final int[] STYLE_ATTRS = sortedAttrs(R.attr.Auth0_Name, R.attr.Auth0_Logo, R.attr.Auth0_BackgroundColor);
+    private static final Map<Resources.Theme, SparseArray<int[]>> RESOLVED_STYLES = new WeakHashMap<>();
+    private static final Map<String, Integer> STRATEGY_STYLES = createStrategyStyles();
+    private static final Map<String, Integer> REGISTERED_STRATEGY_STYLES = new ConcurrentHashMap<>();
+
     private final OAuthConnection connection;
     @StyleRes
     private final int styleRes;
@@ -24,6 +42,11 @@ public class AuthConfig {
         this.styleRes = styleRes;
     }
 
+    private static int[] sortedAttrs(@NonNull int... attrs) {
+        Arrays.sort(attrs);
+        return attrs;
+    }
+
     @NonNull
     public OAuthConnection getConnection() {
         return connection;
@@ -57,146 +80,124 @@ public class AuthConfig {
     }
 
     /**
-     * Retrieves the resource id of the given Style index.
+     * Retrieves the resource id of the given Style index. The name, logo and background color of each style
+     * are resolved together the first time one of them is requested, and cached per Theme.
      *
      * @param context a valid Context
      * @param index   The index to search on the Style definition.
      * @return the id if found or -1.
      */
     int getIdForResource(@NonNull Context context, @StyleableRes int index) {
-        final int[] attrs = new int[]{index};
-        final TypedArray typedArray = context.getTheme().obtainStyledAttributes(styleRes, attrs);
-        int id = typedArray.getResourceId(0, -1);
+        final int position = Arrays.binarySearch(STYLE_ATTRS, index);
+        if (position < 0) {
+            return resolveIds(context.getTheme(), styleRes, new int[]{index})[0];
+        }
+        return resolvedIdsFor(context.getTheme(), styleRes)[position];
+    }
+
+    @NonNull
+    private static int[] resolvedIdsFor(@NonNull Resources.Theme theme, @StyleRes int styleRes) {
+        synchronized (RESOLVED_STYLES) {
+            SparseArray<int[]> styles = RESOLVED_STYLES.get(theme);
+            if (styles == null) {
+                styles = new SparseArray<>();
+                RESOLVED_STYLES.put(theme, styles);
+            }
+            int[] ids = styles.get(styleRes);
+            if (ids == null) {
+                ids = resolveIds(theme, styleRes, STYLE_ATTRS);
+                styles.put(styleRes, ids);
+            }
+            return ids;
+        }
+    }
+
+    @NonNull
+    private static int[] resolveIds(@NonNull Resources.Theme theme, @StyleRes int styleRes, @NonNull int[] attrs) {
+        final TypedArray typedArray = theme.obtainStyledAttributes(styleRes, attrs);
+        final int[] ids = new int[attrs.length];
+        for (int i = 0; i < attrs.length; i++) {
+            ids[i] = typedArray.getResourceId(i, -1);
+        }
         typedArray.recycle();
-        return id;
+        return ids;
     }
 
     /**
-     * It will resolve the given Strategy Name to a valid Style.
+     * It will resolve the given Strategy Name to a valid Style. Styles registered with
+     * {@link #registerStyleForStrategy(String, int)} take precedence over the ones provided by Lock.
      *
      * @param strategyName to search for.
      * @return a valid Lock.Theme.AuthStyle
      */
     @StyleRes
     public static int styleForStrategy(@NonNull String strategyName) {
-        int style = R.style.Lock_Theme_AuthStyle;
-        switch (strategyName) {
-            case "apple":
-                style = R.style.Lock_Theme_AuthStyle_Apple;
-                break;
-            case "amazon":
-                style = R.style.Lock_Theme_AuthStyle_Amazon;
-                break;
-            case "aol":
-                style = R.style.Lock_Theme_AuthStyle_AOL;
-                break;
-            case "bitbucket":
-                style = R.style.Lock_Theme_AuthStyle_BitBucket;
-                break;
-            case "dropbox":
-                style = R.style.Lock_Theme_AuthStyle_Dropbox;
-                break;
-            case "yahoo":
-                style = R.style.Lock_Theme_AuthStyle_Yahoo;
-                break;
-            case "linkedin":
-                style = R.style.Lock_Theme_AuthStyle_LinkedIn;
-                break;
-            case "google-oauth2":
-                style = R.style.Lock_Theme_AuthStyle_GoogleOAuth2;
-                break;
-            case "twitter":
-                style = R.style.Lock_Theme_AuthStyle_Twitter;
-                break;
-            case "facebook":
-                style = R.style.Lock_Theme_AuthStyle_Facebook;
-                break;
-            case "box":
-                style = R.style.Lock_Theme_AuthStyle_Box;
-                break;
-            case "evernote":
-                style = R.style.Lock_Theme_AuthStyle_Evernote;
-                break;
-            case "evernote-sandbox":
-                style = R.style.Lock_Theme_AuthStyle_EvernoteSandbox;
-                break;
-            case "exact":
-                style = R.style.Lock_Theme_AuthStyle_Exact;
-                break;
-            case "github":
-                style = R.style.Lock_Theme_AuthStyle_GitHub;
-                break;
-            case "instagram":
-                style = R.style.Lock_Theme_AuthStyle_Instagram;
-                break;
-            case "miicard":
-                style = R.style.Lock_Theme_AuthStyle_MiiCard;
-                break;
-            case "paypal":
-                style = R.style.Lock_Theme_AuthStyle_Paypal;
-                break;
-            case "paypal-sandbox":
-                style = R.style.Lock_Theme_AuthStyle_PaypalSandbox;
-                break;
-            case "salesforce":
-                style = R.style.Lock_Theme_AuthStyle_Salesforce;
-                break;
-            case "salesforce-community":
-                style = R.style.Lock_Theme_AuthStyle_SalesforceCommunity;
-                break;
-            case "salesforce-sandbox":
-                style = R.style.Lock_Theme_AuthStyle_SalesforceSandbox;
-                break;
-            case "soundcloud":
-                style = R.style.Lock_Theme_AuthStyle_SoundCloud;
-                break;
-            case "windowslive":
-                style = R.style.Lock_Theme_AuthStyle_WindowsLive;
-                break;
-            case "yammer":
-                style = R.style.Lock_Theme_AuthStyle_Yammer;
-                break;
-            case "baidu":
-                style = R.style.Lock_Theme_AuthStyle_Baidu;
-                break;
-            case "fitbit":
-                style = R.style.Lock_Theme_AuthStyle_Fitbit;
-                break;
-            case "planningcenter":
-                style = R.style.Lock_Theme_AuthStyle_PlanningCenter;
-                break;
-            case "renren":
-                style = R.style.Lock_Theme_AuthStyle_RenRen;
-                break;
-            case "thecity":
-                style = R.style.Lock_Theme_AuthStyle_TheCity;
-                break;
-            case "thecity-sandbox":
-                style = R.style.Lock_Theme_AuthStyle_TheCitySandbox;
-                break;
-            case "thirtysevensignals":
-                style = R.style.Lock_Theme_AuthStyle_ThirtySevenSignals;
-                break;
-            case "vkontakte":
-                style = R.style.Lock_Theme_AuthStyle_Vkontakte;
-                break;
-            case "weibo":
-                style = R.style.Lock_Theme_AuthStyle_Weibo;
-                break;
-            case "wordpress":
-                style = R.style.Lock_Theme_AuthStyle_Wordpress;
-                break;
-            case "yandex":
-                style = R.style.Lock_Theme_AuthStyle_Yandex;
-                break;
-            case "shopify":
-                style = R.style.Lock_Theme_AuthStyle_Shopify;
-                break;
-            case "dwolla":
-                style = R.style.Lock_Theme_AuthStyle_Dwolla;
-                break;
+        Integer style = REGISTERED_STRATEGY_STYLES.get(strategyName);
+        if (style == null) {
+            style = STRATEGY_STYLES.get(strategyName);
         }
+        return style != null ? style : R.style.Lock_Theme_AuthStyle;
+    }
+
+    /**
+     * Registers the Style to use for every connection of the given strategy, for the rest of the process.
+     * Use it to style strategies that Lock doesn't know about, or to replace the style of a known one.
+     * Styles set for a specific connection name with the Lock Builder still take precedence.
+     *
+     * @param strategyName the strategy to style.
+     * @param style        a valid Style with the Auth0.BackgroundColor, Auth0.Logo and Auth0.Name values defined.
+     */
+    public static void registerStyleForStrategy(@NonNull String strategyName, @StyleRes int style) {
+        REGISTERED_STRATEGY_STYLES.put(strategyName, style);
+    }
+
+    /**
+     * Removes all the Styles registered with {@link #registerStyleForStrategy(String, int)}.
+     */
+    public static void clearRegisteredStyles() {
+        REGISTERED_STRATEGY_STYLES.clear();
+    }
 
-        return style;
+    private static Map<String, Integer> createStrategyStyles() {
+        final Map<String, Integer> styles = new HashMap<>(64);
+        styles.put("apple", R.style.Lock_Theme_AuthStyle_Apple);
+        styles.put("amazon", R.style.Lock_Theme_AuthStyle_Amazon);
+        styles.put("aol", R.style.Lock_Theme_AuthStyle_AOL);
+        styles.put("bitbucket", R.style.Lock_Theme_AuthStyle_BitBucket);
+        styles.put("dropbox", R.style.Lock_Theme_AuthStyle_Dropbox);
+        styles.put("yahoo", R.style.Lock_Theme_AuthStyle_Yahoo);
+        styles.put("linkedin", R.style.Lock_Theme_AuthStyle_LinkedIn);
+        styles.put("google-oauth2", R.style.Lock_Theme_AuthStyle_GoogleOAuth2);
+        styles.put("twitter", R.style.Lock_Theme_AuthStyle_Twitter);
+        styles.put("facebook", R.style.Lock_Theme_AuthStyle_Facebook);
+        styles.put("box", R.style.Lock_Theme_AuthStyle_Box);
+        styles.put("evernote", R.style.Lock_Theme_AuthStyle_Evernote);
+        styles.put("evernote-sandbox", R.style.Lock_Theme_AuthStyle_EvernoteSandbox);
+        styles.put("exact", R.style.Lock_Theme_AuthStyle_Exact);
+        styles.put("github", R.style.Lock_Theme_AuthStyle_GitHub);
+        styles.put("instagram", R.style.Lock_Theme_AuthStyle_Instagram);
+        styles.put("miicard", R.style.Lock_Theme_AuthStyle_MiiCard);
+        styles.put("paypal", R.style.Lock_Theme_AuthStyle_Paypal);
+        styles.put("paypal-sandbox", R.style.Lock_Theme_AuthStyle_PaypalSandbox);
+        styles.put("salesforce", R.style.Lock_Theme_AuthStyle_Salesforce);
+        styles.put("salesforce-community", R.style.Lock_Theme_AuthStyle_SalesforceCommunity);
+        styles.put("salesforce-sandbox", R.style.Lock_Theme_AuthStyle_SalesforceSandbox);
+        styles.put("soundcloud", R.style.Lock_Theme_AuthStyle_SoundCloud);
+        styles.put("windowslive", R.style.Lock_Theme_AuthStyle_WindowsLive);
+        styles.put("yammer", R.style.Lock_Theme_AuthStyle_Yammer);
+        styles.put("baidu", R.style.Lock_Theme_AuthStyle_Baidu);
+        styles.put("fitbit", R.style.Lock_Theme_AuthStyle_Fitbit);
+        styles.put("planningcenter", R.style.Lock_Theme_AuthStyle_PlanningCenter);
+        styles.put("renren", R.style.Lock_Theme_AuthStyle_RenRen);
+        styles.put("thecity", R.style.Lock_Theme_AuthStyle_TheCity);
+        styles.put("thecity-sandbox", R.style.Lock_Theme_AuthStyle_TheCitySandbox);
+        styles.put("thirtysevensignals", R.style.Lock_Theme_AuthStyle_ThirtySevenSignals);
+        styles.put("vkontakte", R.style.Lock_Theme_AuthStyle_Vkontakte);
+        styles.put("weibo", R.style.Lock_Theme_AuthStyle_Weibo);
+        styles.put("wordpress", R.style.Lock_Theme_AuthStyle_Wordpress);
+        styles.put("yandex", R.style.Lock_Theme_AuthStyle_Yandex);
+        styles.put("shopify", R.style.Lock_Theme_AuthStyle_Shopify);
+        styles.put("dwolla", R.style.Lock_Theme_AuthStyle_Dwolla);
+        return Collections.unmodifiableMap(styles);
     }
 }
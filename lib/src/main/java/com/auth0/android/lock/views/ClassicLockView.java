@@ -77,6 +77,7 @@ public class ClassicLockView extends LinearLayout implements LockWidgetForm {
     private ProgressBar loadingProgressBar;
 
     private String lastEmailInput;
+    private Configuration pendingConfiguration;
 
     public ClassicLockView(@NonNull Context context, @NonNull Bus lockBus, @NonNull Theme lockTheme) {
         super(context);
@@ -165,8 +166,16 @@ public class ClassicLockView extends LinearLayout implements LockWidgetForm {
      * @param configuration the configuration to use on this view, or null if it is missing.
      */
     public void configure(@Nullable Configuration configuration) {
-        removeView(loadingProgressBar);
+        if (formLayout != null && configuration != null && configuration.hasClassicConnections()) {
+            reconfigure(configuration);
+            return;
+        }
+        removeAllViews();
         loadingProgressBar = null;
+        //the forms were removed along with the rest of the views
+        formLayout = null;
+        subForm = null;
+        pendingConfiguration = null;
         this.configuration = configuration;
         if (configuration != null && configuration.hasClassicConnections()) {
             init();
@@ -175,6 +184,68 @@ public class ClassicLockView extends LinearLayout implements LockWidgetForm {
         }
     }
 
+    /**
+     * Updates the already displayed forms with a newer configuration, rebuilding only what changed.
+     * If a sub form is being displayed, or if the forms would need to be rebuilt while the user has typed
+     * something in them, the update is postponed until the user leaves a sub form.
+     *
+     * @param newConfiguration the configuration to apply.
+     */
+    private void reconfigure(@NonNull Configuration newConfiguration) {
+        if (subForm != null) {
+            Log.d(TAG, "A sub form is being displayed, the new configuration will be applied once it's removed.");
+            pendingConfiguration = newConfiguration;
+            return;
+        }
+        final Configuration previous = this.configuration;
+        this.configuration = newConfiguration;
+        final boolean sameDatabase = previous.getDatabaseConnection() == null ? newConfiguration.getDatabaseConnection() == null : previous.getDatabaseConnection().equals(newConfiguration.getDatabaseConnection());
+        final boolean sameEnterprise = previous.getEnterpriseConnections().equals(newConfiguration.getEnterpriseConnections());
+        final boolean sameSocial = previous.getSocialConnections().equals(newConfiguration.getSocialConnections());
+        if (sameDatabase && sameEnterprise && sameSocial) {
+            Log.v(TAG, "The connections didn't change, keeping the current forms.");
+            return;
+        }
+        if (sameLayout(previous, newConfiguration)) {
+            if (!sameSocial) {
+                Log.d(TAG, "The social connections changed, refreshing the social buttons.");
+                formLayout.refreshSocialLayout();
+            }
+            if (!sameDatabase) {
+                Log.d(TAG, "The database connection changed, refreshing the log in and sign up forms.");
+                formLayout.refreshDatabaseConnection();
+            }
+            if (!sameEnterprise) {
+                Log.d(TAG, "The enterprise connections changed, refreshing the log in form.");
+                formLayout.refreshEnterpriseConnections();
+            }
+            return;
+        }
+        if (formLayout.hasInput()) {
+            Log.d(TAG, "The kind of connections available changed, but the user is filling the form. The new configuration will be applied later.");
+            this.configuration = previous;
+            pendingConfiguration = newConfiguration;
+            return;
+        }
+        Log.d(TAG, "The kind of connections available changed, rebuilding the forms.");
+        removeAllViews();
+        showContentLayout();
+        if (lastEmailInput != null) {
+            formLayout.onEmailChanged(lastEmailInput);
+            formLayout.refreshIdentityInput();
+        }
+    }
+
+    /**
+     * Whether both configurations display the same forms and buttons, even if the connections behind them differ.
+     */
+    private static boolean sameLayout(@NonNull Configuration previous, @NonNull Configuration current) {
+        return (previous.getDatabaseConnection() == null) == (current.getDatabaseConnection() == null)
+                && previous.getSocialConnections().isEmpty() == current.getSocialConnections().isEmpty()
+                && previous.getEnterpriseConnections().isEmpty() == current.getEnterpriseConnections().isEmpty()
+                && (previous.getEnterpriseConnections().size() == 1) == (current.getEnterpriseConnections().size() == 1);
+    }
+
     private void showConfigurationMissingLayout(final boolean showRetry) {
         final View errorLayout = LayoutInflater.from(getContext()).inflate(R.layout.com_auth0_lock_error_layout, this, false);
         TextView tvTitle = errorLayout.findViewById(R.id.com_auth0_lock_error_title);
@@ -246,6 +317,11 @@ public class ClassicLockView extends LinearLayout implements LockWidgetForm {
         addView(formLayout, FORM_INDEX, params);
         updateButtonLabel(formLayout.getSelectedMode() == AuthMode.SIGN_UP ? R.string.com_auth0_lock_action_sign_up : R.string.com_auth0_lock_action_log_in);
         resetHeaderTitle();
+        if (pendingConfiguration != null) {
+            final Configuration newConfiguration = pendingConfiguration;
+            pendingConfiguration = null;
+            reconfigure(newConfiguration);
+        }
     }
 
     /**
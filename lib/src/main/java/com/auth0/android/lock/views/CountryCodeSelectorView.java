@@ -40,6 +40,7 @@ import androidx.core.content.ContextCompat;
 
 import com.auth0.android.lock.R;
 import com.auth0.android.lock.adapters.Country;
+import com.auth0.android.lock.utils.CountryRepository;
 import com.auth0.android.lock.utils.LoadCountriesTask;
 
 import java.util.List;
@@ -101,14 +102,9 @@ public class CountryCodeSelectorView extends LinearLayout {
             @Override
             protected void onPostExecute(List<Country> result) {
                 task = null;
-                String defaultCountry = Locale.getDefault().getCountry();
-                Country selectedCountry = new Country(getContext().getString(R.string.com_auth0_lock_default_country_name_fallback), getContext().getString(R.string.com_auth0_lock_default_country_code_fallback));
-
-                for (Country c : result) {
-                    if (c.getDisplayName().equalsIgnoreCase(defaultCountry)) {
-                        selectedCountry = c;
-                        break;
-                    }
+                Country selectedCountry = CountryRepository.getInstance().findByIsoCode(Locale.getDefault().getCountry());
+                if (selectedCountry == null) {
+                    selectedCountry = new Country(getContext().getString(R.string.com_auth0_lock_default_country_name_fallback), getContext().getString(R.string.com_auth0_lock_default_country_code_fallback));
                 }
                 if (CountryCodeSelectorView.this.selectedCountry == null) {
                     setSelectedCountry(selectedCountry);
@@ -118,6 +114,15 @@ public class CountryCodeSelectorView extends LinearLayout {
         task.execute(getContext());
     }
 
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        //a previous detach cancelled the load before the default country was set
+        if (task == null && selectedCountry == null) {
+            prepareTask();
+        }
+    }
+
     /**
      * Sets the current Country to the one given.
      *
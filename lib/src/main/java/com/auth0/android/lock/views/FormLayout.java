@@ -142,6 +142,44 @@ public class FormLayout extends RelativeLayout implements ModeSelectionView.Mode
         formsHolder.addView(socialLayout);
     }
 
+    /**
+     * Replaces the social buttons with the ones of the current configuration, keeping the rest of the forms as they are.
+     * Must only be used when the social connections changed but there are still some to display.
+     */
+    public void refreshSocialLayout() {
+        if (socialLayout == null) {
+            return;
+        }
+        final int index = formsHolder.indexOfChild(socialLayout);
+        formsHolder.removeView(socialLayout);
+        socialLayout = new SocialView(lockWidget, false);
+        if (lastFormMode != -1) {
+            socialLayout.setCurrentMode(lastFormMode);
+        }
+        formsHolder.addView(socialLayout, index);
+    }
+
+    /**
+     * Applies the database connection of the current configuration to the log in and sign up forms, keeping what the user typed.
+     */
+    public void refreshDatabaseConnection() {
+        if (logInForm != null) {
+            logInForm.refreshDatabaseConnection();
+        }
+        if (signUpForm != null) {
+            signUpForm.refreshDatabaseConnection();
+        }
+    }
+
+    /**
+     * Applies the enterprise connections of the current configuration to the log in form, keeping what the user typed.
+     */
+    public void refreshEnterpriseConnections() {
+        if (logInForm != null) {
+            logInForm.refreshEnterpriseConnections();
+        }
+    }
+
     private void addSeparator() {
         orSeparatorMessage = new AppCompatTextView(getContext());
         orSeparatorMessage.setText(R.string.com_auth0_lock_forms_separator);
@@ -294,6 +332,30 @@ public class FormLayout extends RelativeLayout implements ModeSelectionView.Mode
         lastEmailInput = currentValue;
     }
 
+    /**
+     * Whether the user typed something in any of the forms, including the ones not currently displayed.
+     *
+     * @return true if any input of the forms has text, false otherwise.
+     */
+    public boolean hasInput() {
+        return hasInput(logInForm) || hasInput(signUpForm) || hasInput(customFieldsForm);
+    }
+
+    private static boolean hasInput(@Nullable View view) {
+        if (view instanceof ValidatedInputView) {
+            return !((ValidatedInputView) view).getText().isEmpty();
+        }
+        if (view instanceof ViewGroup) {
+            final ViewGroup group = (ViewGroup) view;
+            for (int i = 0; i < group.getChildCount(); i++) {
+                if (hasInput(group.getChildAt(i))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     public void refreshIdentityInput() {
         if (logInForm != null) {
             logInForm.setLastEmail(lastEmailInput);
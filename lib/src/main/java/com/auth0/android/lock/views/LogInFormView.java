@@ -63,8 +63,11 @@ public class LogInFormView extends FormView implements TextView.OnEditorActionLi
     private String currentUsername;
     private EnterpriseConnectionMatcher domainParser;
     private boolean fallbackToDatabase;
+    private boolean singleConnection;
     private boolean corporateSSO;
     private boolean changePasswordEnabled;
+    private boolean currentSSOPredicted;
+    private boolean matchedStateValid;
 
     public LogInFormView(@NonNull Context context) {
         super(context);
@@ -102,7 +105,8 @@ public class LogInFormView extends FormView implements TextView.OnEditorActionLi
         changePasswordBtn.setOnClickListener(v -> lockWidget.showChangePasswordForm(true));
         boolean socialAvailable = !configuration.getSocialConnections().isEmpty();
         boolean singleEnterprise = configuration.getEnterpriseConnections().size() == 1;
-        if (!fallbackToDatabase && !socialAvailable && singleEnterprise) {
+        singleConnection = !fallbackToDatabase && !socialAvailable && singleEnterprise;
+        if (singleConnection) {
             Log.v(TAG, "Only one enterprise connection was found.");
             setupSingleConnectionUI(configuration.getEnterpriseConnections().get(0));
         } else {
@@ -126,27 +130,68 @@ public class LogInFormView extends FormView implements TextView.OnEditorActionLi
 
             @Override
             public void afterTextChanged(Editable s) {
-                String text = s.toString();
-                if (text.isEmpty()) {
-                    return;
-                }
-
-                currentConnection = domainParser.parse(text);
-                currentUsername = domainParser.extractUsername(text);
-                if (currentConnection != null) {
-                    Log.v(TAG, String.format("Matched results are connection %s with username %s", currentConnection, currentUsername));
-                    passwordInput.setVisibility(GONE);
-                    showSSOMessage(true);
-                } else if (fallbackToDatabase) {
-                    passwordInput.setVisibility(VISIBLE);
-                    showSSOMessage(false);
-                } else {
-                    resetDomain();
-                }
+                matchConnection(s.toString());
             }
         });
     }
 
+    private void matchConnection(@NonNull String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+
+        final OAuthConnection connection = domainParser.parse(text);
+        final boolean ssoPredicted = connection == null && domainParser.matchesDomainPrefix(text);
+        currentUsername = domainParser.extractUsername(text);
+        if (matchedStateValid && connection == currentConnection && ssoPredicted == currentSSOPredicted) {
+            return;
+        }
+        matchedStateValid = true;
+        currentConnection = connection;
+        currentSSOPredicted = ssoPredicted;
+        if (currentConnection != null) {
+            Log.v(TAG, String.format("Matched results are connection %s with username %s", currentConnection, currentUsername));
+            passwordInput.setVisibility(GONE);
+            showSSOMessage(true);
+        } else if (fallbackToDatabase) {
+            passwordInput.setVisibility(VISIBLE);
+            showSSOMessage(ssoPredicted);
+        } else {
+            resetDomain();
+            if (ssoPredicted) {
+                showSSOMessage(true);
+            }
+        }
+    }
+
+    /**
+     * Applies the database connection of the current configuration to the identity input, keeping what the user typed.
+     */
+    public void refreshDatabaseConnection() {
+        final Configuration configuration = lockWidget.getConfiguration();
+        emailInput.configureFrom(configuration.getDatabaseConnection());
+        emailInput.setUsernameStyle(configuration.getUsernameStyle());
+    }
+
+    /**
+     * Matches the typed email against the enterprise connections of the current configuration, keeping what the user typed.
+     * Must only be used when the number of enterprise connections didn't change from one to many or the other way around.
+     */
+    public void refreshEnterpriseConnections() {
+        final Configuration configuration = lockWidget.getConfiguration();
+        domainParser = new EnterpriseConnectionMatcher(configuration.getEnterpriseConnections());
+        if (singleConnection) {
+            setupSingleConnectionUI(configuration.getEnterpriseConnections().get(0));
+            return;
+        }
+        if (corporateSSO) {
+            //the user already chose the connection, it's updated when they go back
+            return;
+        }
+        matchedStateValid = false;
+        matchConnection(emailInput.getText());
+    }
+
     private void setupSingleConnectionUI(final OAuthConnection connection) {
         final int strategyStyle = AuthConfig.styleForStrategy(connection.getStrategy());
         final AuthConfig authConfig = new AuthConfig(connection, strategyStyle);
@@ -258,6 +303,7 @@ public class LogInFormView extends FormView implements TextView.OnEditorActionLi
             Log.d(TAG, "Removing the SSO Login Form, going back to the Username/Password Form.");
             resetDomain();
             showSSOMessage(true);
+            matchedStateValid = false;
             return true;
         }
         return false;
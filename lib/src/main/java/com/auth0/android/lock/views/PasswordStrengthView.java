@@ -34,27 +34,12 @@ import android.widget.TextView;
 import com.auth0.android.lock.R;
 import com.auth0.android.lock.internal.configuration.PasswordComplexity;
 import com.auth0.android.lock.internal.configuration.PasswordStrength;
-
-import java.util.regex.Pattern;
+import com.auth0.android.lock.utils.PasswordPolicyEvaluator;
 
 
 public class PasswordStrengthView extends LinearLayout {
 
-    private static final int MAX_IDENTICAL_CHARACTERS = 2;
-    private static final int MAX_LENGTH = 128;
-    private static final int MIN_LENGTH_EXCELLENT = 10;
-    private static final int MIN_LENGTH_GOOD = 8;
-    private static final int MIN_LENGTH_FAIR = 8;
-    private static final int MIN_LENGTH_LOW = 6;
-    private static final int MIN_LENGTH_NONE = 1;
-
-    private final Pattern patternUppercase = Pattern.compile("^.*[A-Z]+.*$");
-    private final Pattern patternLowercase = Pattern.compile("^.*[a-z]+.*$");
-    private final Pattern patternSpecial = Pattern.compile("^.*[ !\"#$%&'()*+,-./:;<=>?@\\[\\\\\\]^_`{|}~]+.*$");
-    private final Pattern patternNumeric = Pattern.compile("^.*[0-9]+.*$");
-    private final Pattern patternIdentical = Pattern.compile("^.*(?=(.)\\1{" + MAX_IDENTICAL_CHARACTERS + ",}).*$");
-
-    private PasswordComplexity complexity;
+    private volatile PasswordPolicyEvaluator evaluator;
 
     private TextView titleAtLeast;
     private CheckableOptionView optionLength;
@@ -91,7 +76,7 @@ public class PasswordStrengthView extends LinearLayout {
      */
     @SuppressLint("StringFormatInvalid")
     private void showPolicy() {
-        int strength = complexity.getPasswordPolicy();
+        int strength = evaluator.getComplexity().getPasswordPolicy();
         if (strength == PasswordStrength.NONE) {
             setEnabled(false);
             setVisibility(GONE);
@@ -106,7 +91,7 @@ public class PasswordStrengthView extends LinearLayout {
 
         titleAtLeast.setVisibility(strength == PasswordStrength.FAIR || strength == PasswordStrength.LOW ? GONE : VISIBLE);
         String lengthRequirements = getContext().getResources().getString(R.string.com_auth0_lock_password_strength_chars_length);
-        optionLength.setText(String.format(lengthRequirements, getMinimumLength()));
+        optionLength.setText(String.format(lengthRequirements, evaluator.getMinimumLength()));
 
         optionLowercase.setVisibility(strength == PasswordStrength.LOW ? GONE : VISIBLE);
         optionUppercase.setVisibility(strength == PasswordStrength.LOW ? GONE : VISIBLE);
@@ -115,75 +100,6 @@ public class PasswordStrengthView extends LinearLayout {
         optionIdenticalCharacters.setVisibility(strength == PasswordStrength.EXCELLENT ? VISIBLE : GONE);
     }
 
-    private boolean hasIdenticalCharacters(@NonNull String input) {
-        boolean v = !patternIdentical.matcher(input).matches();
-        optionIdenticalCharacters.setChecked(v);
-        return v;
-    }
-
-    private boolean hasUppercaseCharacters(@NonNull String input) {
-        boolean v = patternUppercase.matcher(input).matches();
-        optionUppercase.setChecked(v);
-        return v;
-    }
-
-    private boolean hasLowercaseCharacters(@NonNull String input) {
-        boolean v = patternLowercase.matcher(input).matches();
-        optionLowercase.setChecked(v);
-        return v;
-    }
-
-    private boolean hasNumericCharacters(@NonNull String input) {
-        boolean v = patternNumeric.matcher(input).matches();
-        optionNumeric.setChecked(v);
-        return v;
-    }
-
-    private boolean hasSpecialCharacters(@NonNull String input) {
-        boolean v = patternSpecial.matcher(input).matches();
-        optionSpecialCharacters.setChecked(v);
-        return v;
-    }
-
-    private boolean hasMinimumLength(@NonNull String input, int length) {
-        boolean v = input.length() >= length && input.length() <= MAX_LENGTH;
-        optionLength.setChecked(v);
-        return v;
-    }
-
-    private boolean atLeastThree(boolean a, boolean b, boolean c, boolean d) {
-        boolean all = a && b && c && d;
-        boolean one = a && b && (c ^ d);
-        boolean two = b && c && (d ^ a);
-        boolean three = c && d && (a ^ b);
-
-        return all || one || two || three;
-    }
-
-    private boolean allThree(boolean a, boolean b, boolean c) {
-        return a && b && c;
-    }
-
-    private int getMinimumLength() {
-        Integer minLengthOverride = complexity.getMinLengthOverride();
-        if (minLengthOverride != null) {
-            return minLengthOverride;
-        }
-        switch (complexity.getPasswordPolicy()) {
-            case PasswordStrength.EXCELLENT:
-                return MIN_LENGTH_EXCELLENT;
-            case PasswordStrength.GOOD:
-                return MIN_LENGTH_GOOD;
-            case PasswordStrength.FAIR:
-                return MIN_LENGTH_FAIR;
-            case PasswordStrength.LOW:
-                return MIN_LENGTH_LOW;
-            default:
-            case PasswordStrength.NONE:
-                return MIN_LENGTH_NONE;
-        }
-    }
-
     /**
      * Sets the current level of Strength that this widget is going to validate.
      *
@@ -202,7 +118,7 @@ public class PasswordStrengthView extends LinearLayout {
      * @param complexity the password complexity to require on this widget
      */
     public void setPasswordComplexity(@NonNull PasswordComplexity complexity) {
-        this.complexity = complexity;
+        this.evaluator = new PasswordPolicyEvaluator(complexity);
         showPolicy();
     }
 
@@ -217,23 +133,44 @@ public class PasswordStrengthView extends LinearLayout {
             return false;
         }
 
-        boolean length = hasMinimumLength(password, getMinimumLength());
-        boolean other = true;
-        switch (complexity.getPasswordPolicy()) {
-            case PasswordStrength.EXCELLENT:
-                boolean atLeast = atLeastThree(hasLowercaseCharacters(password), hasUppercaseCharacters(password), hasNumericCharacters(password), hasSpecialCharacters(password));
-                other = hasIdenticalCharacters(password) && atLeast;
-                break;
-            case PasswordStrength.GOOD:
-                other = atLeastThree(hasLowercaseCharacters(password), hasUppercaseCharacters(password), hasNumericCharacters(password), hasSpecialCharacters(password));
-                break;
-            case PasswordStrength.FAIR:
-                other = allThree(hasLowercaseCharacters(password), hasUppercaseCharacters(password), hasNumericCharacters(password));
-                break;
-            case PasswordStrength.LOW:
-            case PasswordStrength.NONE:
-        }
-        return length && other;
+        final PasswordPolicyEvaluator.Result result = evaluator.evaluate(password);
+        showResult(result);
+        return result.isValid();
+    }
+
+    /**
+     * Evaluates the password without updating the requirements displayed. Safe to call from any thread.
+     *
+     * @param password the password to evaluate
+     * @return the result of the evaluation.
+     */
+    @NonNull
+    PasswordPolicyEvaluator.Result evaluate(@NonNull String password) {
+        return evaluator.evaluate(password);
+    }
+
+    /**
+     * Getter for the evaluator of the current password complexity. It's immutable, so it can be used from any thread.
+     *
+     * @return the current evaluator.
+     */
+    @NonNull
+    PasswordPolicyEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Checks the requirements that the evaluated password meets.
+     *
+     * @param result the result of evaluating the current password
+     */
+    void showResult(@NonNull PasswordPolicyEvaluator.Result result) {
+        optionLength.setChecked(result.hasMinimumLength());
+        optionIdenticalCharacters.setChecked(result.hasNoIdenticalCharacters());
+        optionLowercase.setChecked(result.hasLowercaseCharacters());
+        optionUppercase.setChecked(result.hasUppercaseCharacters());
+        optionNumeric.setChecked(result.hasNumericCharacters());
+        optionSpecialCharacters.setChecked(result.hasSpecialCharacters());
     }
 
 }
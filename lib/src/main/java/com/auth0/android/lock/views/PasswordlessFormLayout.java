@@ -89,6 +89,22 @@ public class PasswordlessFormLayout extends LinearLayout implements Passwordless
         addView(socialLayout);
     }
 
+    /**
+     * Replaces the social buttons with the ones of the current configuration, keeping the rest of the forms as they are.
+     * Must only be used when the social connections changed but there are still some to display.
+     */
+    public void refreshSocialLayout() {
+        if (socialLayout == null) {
+            return;
+        }
+        final int index = indexOfChild(socialLayout);
+        final int visibility = socialLayout.getVisibility();
+        removeView(socialLayout);
+        socialLayout = new SocialView(lockWidget, false);
+        socialLayout.setVisibility(visibility);
+        addView(socialLayout, index);
+    }
+
     private void addSeparator() {
         orSeparatorMessage = new AppCompatTextView(getContext());
         int passwordlessMode = lockWidget.getConfiguration().getPasswordlessMode();
@@ -47,6 +47,7 @@ import com.auth0.android.lock.events.CountryCodeChangeEvent;
 import com.auth0.android.lock.events.FetchApplicationEvent;
 import com.auth0.android.lock.events.OAuthLoginEvent;
 import com.auth0.android.lock.internal.configuration.Configuration;
+import com.auth0.android.lock.internal.configuration.PasswordlessConnection;
 import com.auth0.android.lock.internal.configuration.Theme;
 import com.auth0.android.lock.views.interfaces.LockWidgetPasswordless;
 import com.squareup.otto.Bus;
@@ -113,6 +114,10 @@ public class PasswordlessLockView extends LinearLayout implements LockWidgetPass
     }
 
     public void configure(@Nullable Configuration configuration) {
+        if (formLayout != null && configuration != null && configuration.hasPasswordlessConnections()) {
+            reconfigure(configuration);
+            return;
+        }
         removeView(loadingProgressBar);
         loadingProgressBar = null;
         this.configuration = configuration;
@@ -123,6 +128,33 @@ public class PasswordlessLockView extends LinearLayout implements LockWidgetPass
         }
     }
 
+    /**
+     * Updates the already displayed forms with a newer configuration, rebuilding only what changed.
+     *
+     * @param newConfiguration the configuration to apply.
+     */
+    private void reconfigure(@NonNull Configuration newConfiguration) {
+        final Configuration previous = this.configuration;
+        this.configuration = newConfiguration;
+        final PasswordlessConnection previousPasswordless = previous.getPasswordlessConnection();
+        final boolean samePasswordless = previousPasswordless == null ? newConfiguration.getPasswordlessConnection() == null : previousPasswordless.equals(newConfiguration.getPasswordlessConnection());
+        final boolean sameSocial = previous.getSocialConnections().equals(newConfiguration.getSocialConnections());
+        if (samePasswordless && sameSocial) {
+            Log.v(TAG, "The connections didn't change, keeping the current forms.");
+            return;
+        }
+        final boolean socialVisibilityChanged = previous.getSocialConnections().isEmpty() != newConfiguration.getSocialConnections().isEmpty();
+        if (samePasswordless && !socialVisibilityChanged) {
+            Log.d(TAG, "Only the social connections changed, refreshing the social buttons.");
+            formLayout.refreshSocialLayout();
+            return;
+        }
+        Log.d(TAG, "The passwordless connection changed, rebuilding the forms.");
+        removeAllViews();
+        actionButton = null;
+        showContentLayout();
+    }
+
     private void showConfigurationMissingLayout(final boolean showRetry) {
         final View errorLayout = LayoutInflater.from(getContext()).inflate(R.layout.com_auth0_lock_error_layout, this, false);
         TextView tvTitle = errorLayout.findViewById(R.id.com_auth0_lock_error_title);
@@ -78,19 +78,15 @@ public class SignUpFormView extends FormView implements TextView.OnEditorActionL
         fieldContainer = findViewById(R.id.com_auth0_lock_custom_fields_container);
 
         usernameInput = findViewById(R.id.com_auth0_lock_input_username);
-        usernameInput.configureFrom(configuration.getDatabaseConnection());
-        usernameInput.setUsernameStyle(UsernameStyle.USERNAME);
         usernameInput.setOnEditorActionListener(this);
         emailInput = findViewById(R.id.com_auth0_lock_input_email);
         emailInput.setDataType(ValidatedInputView.DataType.EMAIL);
         emailInput.setIdentityListener(this);
         emailInput.setOnEditorActionListener(this);
         passwordInput = findViewById(R.id.com_auth0_lock_input_password);
-        passwordInput.setPasswordComplexity(configuration.getPasswordComplexity());
         passwordInput.setAllowShowPassword(configuration.allowShowPassword());
         passwordInput.setOnEditorActionListener(this);
-
-        usernameInput.setVisibility(configuration.isUsernameRequired() ? View.VISIBLE : View.GONE);
+        refreshDatabaseConnection();
 
         displayCustomFieldsHere = lockWidget.getConfiguration().getVisibleSignUpFields().size() <= configuration.getVisibleSignUpFieldsThreshold();
         if (displayCustomFieldsHere) {
@@ -98,6 +94,17 @@ public class SignUpFormView extends FormView implements TextView.OnEditorActionL
         }
     }
 
+    /**
+     * Applies the username and password requirements of the current configuration, keeping what the user typed.
+     */
+    public void refreshDatabaseConnection() {
+        final Configuration configuration = lockWidget.getConfiguration();
+        usernameInput.configureFrom(configuration.getDatabaseConnection());
+        usernameInput.setUsernameStyle(UsernameStyle.USERNAME);
+        passwordInput.setPasswordComplexity(configuration.getPasswordComplexity());
+        usernameInput.setVisibility(configuration.isUsernameRequired() ? View.VISIBLE : View.GONE);
+    }
+
     private void addCustomFields(List<CustomField> customFields) {
         Log.d(TAG, String.format("Adding %d custom fields.", customFields.size()));
         ViewGroup.LayoutParams fieldParams = defineFieldParams();
@@ -23,6 +23,8 @@ class SocialButton extends RelativeLayout {
 
     private ImageView icon;
     private TextView title;
+    private AuthConfig config;
+    private String name;
 
     public SocialButton(Context context, AttributeSet attrs) {
         super(context, attrs);
@@ -72,6 +74,24 @@ class SocialButton extends RelativeLayout {
      * @param mode   the current button mode. Used to prefix the title with "Log In" or "Sign Up".
      */
     public void setStyle(AuthConfig config, @AuthMode int mode) {
+        if (config != this.config) {
+            applyStyle(config);
+        }
+        setMode(mode);
+    }
+
+    /**
+     * Updates the prefix of the title to match the given mode, without resolving the connection style again.
+     *
+     * @param mode the current button mode. Used to prefix the title with "Log In" or "Sign Up".
+     */
+    void setMode(@AuthMode int mode) {
+        final String prefixFormat = getResources().getString(mode == AuthMode.LOG_IN ? R.string.com_auth0_lock_social_log_in : R.string.com_auth0_lock_social_sign_up);
+        title.setText(String.format(prefixFormat, name));
+    }
+
+    private void applyStyle(AuthConfig config) {
+        this.config = config;
         final Drawable logo = config.getLogo(getContext());
         final int backgroundColor = config.getBackgroundColor(getContext());
         Drawable touchBackground = getTouchFeedbackBackground(backgroundColor);
@@ -83,9 +103,7 @@ class SocialButton extends RelativeLayout {
             title.setTextColor(textColor);
         }
         icon.setImageDrawable(logo);
-        final String name = config.getName(getContext());
-        final String prefixFormat = getResources().getString(mode == AuthMode.LOG_IN ? R.string.com_auth0_lock_social_log_in : R.string.com_auth0_lock_social_sign_up);
-        title.setText(String.format(prefixFormat, name));
+        name = config.getName(getContext());
         ViewUtils.setBackground(this, touchBackground);
     }
 
@@ -107,6 +107,5 @@ public class SocialView extends LinearLayout implements SocialViewAdapter.OAuthL
      */
     public void setCurrentMode(@AuthMode int mode) {
         adapter.setButtonMode(mode);
-        adapter.notifyDataSetChanged();
     }
 }
@@ -34,13 +34,17 @@ import android.view.ViewGroup;
 import com.auth0.android.lock.internal.configuration.AuthMode;
 import com.auth0.android.lock.internal.configuration.OAuthConnection;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 class SocialViewAdapter extends RecyclerView.Adapter<SocialViewAdapter.ViewHolder> {
     private static final String TAG = SocialViewAdapter.class.getSimpleName();
+    private static final Object PAYLOAD_BUTTON_MODE = new Object();
 
     private final Context context;
     private final List<AuthConfig> authConfigs;
+    private final long[] itemIds;
     private OAuthListener callback;
     @AuthMode
     private int buttonMode;
@@ -48,6 +52,18 @@ class SocialViewAdapter extends RecyclerView.Adapter<SocialViewAdapter.ViewHolde
     public SocialViewAdapter(Context context, @NonNull List<AuthConfig> authConfigs) {
         this.context = context;
         this.authConfigs = authConfigs;
+        this.itemIds = new long[authConfigs.size()];
+        final Map<String, Long> idsByName = new HashMap<>();
+        for (int i = 0; i < authConfigs.size(); i++) {
+            final String name = authConfigs.get(i).getConnection().getName();
+            Long id = idsByName.get(name);
+            if (id == null) {
+                id = (long) idsByName.size();
+                idsByName.put(name, id);
+            }
+            itemIds[i] = id;
+        }
+        setHasStableIds(true);
     }
 
     @Override
@@ -62,6 +78,21 @@ class SocialViewAdapter extends RecyclerView.Adapter<SocialViewAdapter.ViewHolde
         viewHolder.socialButton.setStyle(authConfigs.get(i), buttonMode);
     }
 
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder viewHolder, int i, @NonNull List<Object> payloads) {
+        if (!payloads.isEmpty() && allButtonModeChanges(payloads)) {
+            //only the title prefix changed, keep the resolved logo and colors
+            viewHolder.socialButton.setMode(buttonMode);
+            return;
+        }
+        onBindViewHolder(viewHolder, i);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return itemIds[position];
+    }
+
     @Override
     public int getItemCount() {
         return authConfigs.size();
@@ -69,11 +100,25 @@ class SocialViewAdapter extends RecyclerView.Adapter<SocialViewAdapter.ViewHolde
 
     /**
      * Sets the button mode to Sign Up or Log In. This will prefix the mode text before the title.
+     * The visible buttons only update their title, the rest of the style is kept.
      *
      * @param mode the mode to use on the current button list.
      */
     public void setButtonMode(@AuthMode int mode) {
+        if (this.buttonMode == mode) {
+            return;
+        }
         this.buttonMode = mode;
+        notifyItemRangeChanged(0, getItemCount(), PAYLOAD_BUTTON_MODE);
+    }
+
+    private static boolean allButtonModeChanges(@NonNull List<Object> payloads) {
+        for (Object payload : payloads) {
+            if (payload != PAYLOAD_BUTTON_MODE) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
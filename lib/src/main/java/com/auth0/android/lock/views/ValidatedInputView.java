@@ -30,7 +30,6 @@ import android.content.res.TypedArray;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.ShapeDrawable;
-import android.os.Handler;
 import androidx.annotation.CallSuper;
 import androidx.annotation.DrawableRes;
 import androidx.annotation.IntDef;
@@ -52,10 +51,13 @@ import android.widget.LinearLayout;
 import android.widget.TextView;
 
 import com.auth0.android.lock.R;
+import com.auth0.android.lock.internal.LockExecutor;
+import com.auth0.android.lock.utils.InputValidators;
 import com.auth0.android.lock.views.interfaces.IdentityListener;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.auth0.android.lock.internal.configuration.DatabaseConnection.MAX_USERNAME_LENGTH;
 import static com.auth0.android.lock.internal.configuration.DatabaseConnection.MIN_USERNAME_LENGTH;
@@ -184,6 +186,8 @@ public class ValidatedInputView extends LinearLayout {
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
         input.removeTextChangedListener(inputWatcher);
+        pendingValidation.set(null);
+        removeCallbacks(uiUpdater);
     }
 
     private final TextWatcher inputWatcher = new TextWatcher() {
@@ -197,28 +201,45 @@ public class ValidatedInputView extends LinearLayout {
 
         @Override
         public void afterTextChanged(Editable s) {
-            runValidation();
-            if (dataType == EMAIL || dataType == USERNAME_OR_EMAIL) {
-                notifyEmailChanged(s.toString());
+            //the rules are captured here, on the main thread, as the view can change them while the worker runs
+            final PendingValidation validation = new PendingValidation(s.toString(), dataType, createValidator());
+            //only the first keystroke after a validation started schedules a new one, later ones replace the pending text
+            if (pendingValidation.getAndSet(validation) == null) {
+                LockExecutor.getValidationExecutor().execute(validationTask);
             }
         }
+    };
 
-        private void runValidation() {
-            hasValidInput = validate(false);
-            Handler handler = getHandler();
-            handler.removeCallbacks(uiUpdater);
-            handler.postDelayed(uiUpdater, VALIDATION_DELAY);
-        }
-
-        private void notifyEmailChanged(String emailInput) {
-            boolean validOrEmptyEmail = emailInput.isEmpty() || emailInput.matches(EMAIL_REGEX);
-            if (identityListener != null && validOrEmptyEmail) {
-                identityListener.onEmailChanged(emailInput);
+    private final Runnable validationTask = new Runnable() {
+        @Override
+        public void run() {
+            final PendingValidation validation = pendingValidation.getAndSet(null);
+            if (validation == null) {
+                return;
             }
+            final String text = validation.text;
+            final boolean valid = validation.validator.isValid(text, false);
+            final boolean validOrEmptyEmail = (validation.dataType == EMAIL || validation.dataType == USERNAME_OR_EMAIL) && (text.isEmpty() || InputValidators.isEmail(text));
+            post(() -> onValidationCompleted(text, valid, validOrEmptyEmail));
         }
     };
 
+    private void onValidationCompleted(@NonNull String text, boolean valid, boolean validOrEmptyEmail) {
+        if (!text.equals(getText())) {
+            //the input changed since this validation started, a newer result is on its way
+            return;
+        }
+        hasValidInput = valid;
+        onValidationResult(text, valid);
+        removeCallbacks(uiUpdater);
+        postDelayed(uiUpdater, VALIDATION_DELAY);
+        if (identityListener != null && validOrEmptyEmail) {
+            identityListener.onEmailChanged(text);
+        }
+    }
+
     private final Runnable uiUpdater = this::updateBorder;
+    private final AtomicReference<PendingValidation> pendingValidation = new AtomicReference<>();
 
     @SuppressLint("StringFormatInvalid")
     private void setupInputValidation() {
@@ -358,43 +379,50 @@ public class ValidatedInputView extends LinearLayout {
      * @return whether the data is valid or not.
      */
     protected boolean validate(boolean validateEmptyFields) {
-        boolean isValid = false;
-        String value = dataType == PASSWORD ? getText() : getText().trim();
-        if (!validateEmptyFields && value.isEmpty()) {
-            return true;
-        }
-
-        switch (dataType) {
-            case TEXT_NAME:
-            case NUMBER:
-            case PASSWORD:
-            case NON_EMPTY_USERNAME:
-                isValid = !value.isEmpty();
-                break;
-            case EMAIL:
-                isValid = value.matches(EMAIL_REGEX);
-                break;
-            case USERNAME:
-                isValid = value.matches(USERNAME_REGEX) && value.length() >= 1 && value.length() <= 15;
-                break;
-            case USERNAME_OR_EMAIL:
-                final boolean validEmail = value.matches(EMAIL_REGEX);
-                final boolean validUsername = value.matches(USERNAME_REGEX) && value.length() >= 1 && value.length() <= 15;
-                isValid = validEmail || validUsername;
-                break;
-            case MOBILE_PHONE:
-            case PHONE_NUMBER:
-                isValid = value.matches(PHONE_NUMBER_REGEX);
-                break;
-            case MFA_CODE:
-                isValid = value.matches(CODE_REGEX);
-                break;
-        }
-
+        final boolean isValid = isValid(getText(), validateEmptyFields);
         Log.v(TAG, "Field validation results: Is valid? " + isValid);
         return isValid;
     }
 
+    /**
+     * Validates the given text against the current rules of this field. DataType must be set.
+     *
+     * @param text                the text to validate.
+     * @param validateEmptyFields if an empty input should be considered invalid.
+     * @return whether the text is valid or not.
+     */
+    protected boolean isValid(@NonNull String text, boolean validateEmptyFields) {
+        return createValidator().isValid(text, validateEmptyFields);
+    }
+
+    /**
+     * Captures the current rules of this field into a Validator. It's called on the main thread, and the
+     * Validator it returns is used from a background thread while the user types, so it must only hold
+     * copies of the values it needs and not touch the view.
+     *
+     * @return a Validator with the current rules of this field.
+     */
+    @NonNull
+    protected Validator createValidator() {
+        final int type = dataType;
+        return (text, validateEmptyFields) -> {
+            String value = type == PASSWORD ? text : text.trim();
+            if (!validateEmptyFields && value.isEmpty()) {
+                return true;
+            }
+            return InputValidators.isValid(type, value);
+        };
+    }
+
+    /**
+     * Called on the main thread with the result of validating the text the user typed, once it's known to be the latest one.
+     *
+     * @param text  the text that was validated.
+     * @param valid whether the text is valid or not.
+     */
+    protected void onValidationResult(@NonNull String text, boolean valid) {
+    }
+
     /**
      * Gets the current text from the input field.
      *
@@ -505,4 +533,29 @@ public class ValidatedInputView extends LinearLayout {
     public void setIdentityListener(@NonNull IdentityListener listener) {
         this.identityListener = listener;
     }
+
+    /**
+     * Checks a text against the rules a field had when the Validator was created.
+     */
+    protected interface Validator {
+        /**
+         * @param text                the text to validate.
+         * @param validateEmptyFields if an empty input should be considered invalid.
+         * @return whether the text is valid or not.
+         */
+        boolean isValid(@NonNull String text, boolean validateEmptyFields);
+    }
+
+    private static final class PendingValidation {
+        final String text;
+        @DataType
+        final int dataType;
+        final Validator validator;
+
+        PendingValidation(@NonNull String text, @DataType int dataType, @NonNull Validator validator) {
+            this.text = text;
+            this.dataType = dataType;
+            this.validator = validator;
+        }
+    }
 }
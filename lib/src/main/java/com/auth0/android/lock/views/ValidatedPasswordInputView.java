@@ -7,12 +7,16 @@ import android.util.Log;
 
 import com.auth0.android.lock.internal.configuration.PasswordComplexity;
 import com.auth0.android.lock.internal.configuration.PasswordStrength;
+import com.auth0.android.lock.utils.PasswordPolicyEvaluator;
+
+import java.util.concurrent.atomic.AtomicReference;
 
 
 public class ValidatedPasswordInputView extends ValidatedInputView {
     private static final String TAG = ValidatedPasswordInputView.class.getSimpleName();
     private PasswordStrengthView strengthView;
     private boolean hasValidInput = true;
+    private final AtomicReference<Evaluation> lastEvaluation = new AtomicReference<>();
 
     public ValidatedPasswordInputView(@NonNull Context context) {
         super(context);
@@ -43,6 +47,26 @@ public class ValidatedPasswordInputView extends ValidatedInputView {
         return hasValidInput;
     }
 
+    @NonNull
+    @Override
+    protected Validator createValidator() {
+        final PasswordPolicyEvaluator evaluator = strengthView.getEvaluator();
+        return (text, validateEmptyFields) -> {
+            final PasswordPolicyEvaluator.Result result = evaluator.evaluate(text);
+            lastEvaluation.set(new Evaluation(text, result));
+            return result.isValid() || !validateEmptyFields && text.isEmpty();
+        };
+    }
+
+    @Override
+    protected void onValidationResult(@NonNull String text, boolean valid) {
+        hasValidInput = valid;
+        //Reuse the result computed in the background, the text only gets here once it's the latest one
+        final Evaluation evaluation = lastEvaluation.getAndSet(null);
+        final PasswordPolicyEvaluator.Result result = evaluation != null && evaluation.text.equals(text) ? evaluation.result : strengthView.evaluate(text);
+        strengthView.showResult(result);
+    }
+
     @Override
     protected void updateBorder() {
         super.updateBorder();
@@ -71,4 +95,14 @@ public class ValidatedPasswordInputView extends ValidatedInputView {
     public void setPasswordComplexity(@NonNull PasswordComplexity complexity) {
         strengthView.setPasswordComplexity(complexity);
     }
+
+    private static final class Evaluation {
+        final String text;
+        final PasswordPolicyEvaluator.Result result;
+
+        Evaluation(@NonNull String text, @NonNull PasswordPolicyEvaluator.Result result) {
+            this.text = text;
+            this.result = result;
+        }
+    }
 }
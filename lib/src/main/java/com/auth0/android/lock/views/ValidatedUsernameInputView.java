@@ -33,6 +33,7 @@ import android.util.AttributeSet;
 import com.auth0.android.lock.R;
 import com.auth0.android.lock.UsernameStyle;
 import com.auth0.android.lock.internal.configuration.DatabaseConnection;
+import com.auth0.android.lock.utils.InputValidators;
 
 import static com.auth0.android.lock.UsernameStyle.DEFAULT;
 import static com.auth0.android.lock.UsernameStyle.EMAIL;
@@ -101,22 +102,30 @@ public class ValidatedUsernameInputView extends ValidatedInputView {
         }
     }
 
+    @NonNull
     @Override
-    protected boolean validate(boolean validateEmptyFields) {
-        final String value = getText().trim();
-        if (!validateEmptyFields && value.isEmpty()) {
-            return true;
-        }
-        boolean validUsernameLength = value.length() >= minUsernameLength && value.length() <= maxUsernameLength;
+    protected Validator createValidator() {
+        final int type = getDataType();
+        final int minLength = minUsernameLength;
+        final int maxLength = maxUsernameLength;
+        final boolean customDatabase = isCustomDatabase;
+        final Validator fallback = super.createValidator();
+        return (text, validateEmptyFields) -> {
+            final String value = text.trim();
+            if (!validateEmptyFields && value.isEmpty()) {
+                return true;
+            }
+            boolean validUsernameLength = value.length() >= minLength && value.length() <= maxLength;
 
-        if (getDataType() == DataType.USERNAME) {
-            return validUsernameLength && !isCustomDatabase ? value.matches(USERNAME_REGEX) : validUsernameLength;
-        }
-        if (getDataType() == DataType.USERNAME_OR_EMAIL) {
-            //This case is only used in the LogInFormView, avoid validating against username regex
-            final boolean validEmail = value.matches(EMAIL_REGEX);
-            return validEmail || validUsernameLength;
-        }
-        return super.validate(validateEmptyFields);
+            if (type == DataType.USERNAME) {
+                return validUsernameLength && !customDatabase ? InputValidators.isUsername(value) : validUsernameLength;
+            }
+            if (type == DataType.USERNAME_OR_EMAIL) {
+                //This case is only used in the LogInFormView, avoid validating against username regex
+                final boolean validEmail = InputValidators.isEmail(value);
+                return validEmail || validUsernameLength;
+            }
+            return fallback.isValid(text, validateEmptyFields);
+        };
     }
 }
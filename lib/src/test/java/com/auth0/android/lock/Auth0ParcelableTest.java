@@ -3,18 +3,23 @@ package com.auth0.android.lock;
 import android.os.Parcel;
 
 import com.auth0.android.Auth0;
+import com.auth0.android.request.DefaultClient;
+import com.auth0.android.request.NetworkingClient;
 import com.auth0.android.util.Auth0UserAgent;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Mockito;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
 import okhttp3.HttpUrl;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 
@@ -81,4 +86,35 @@ public class Auth0ParcelableTest {
         assertThat(parceledAuth0.getAuth0().getAuth0UserAgent().getValue(), is(equalTo(userAgent.getValue())));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldKeepNetworkingClient() {
+        NetworkingClient client = Mockito.mock(NetworkingClient.class);
+        Auth0 auth0 = new Auth0(CLIENT_ID, DOMAIN, CONFIG_DOMAIN);
+        auth0.setNetworkingClient(client);
+        Auth0Parcelable auth0Parcelable = new Auth0Parcelable(auth0);
+        Parcel parcel = Parcel.obtain();
+        auth0Parcelable.writeToParcel(parcel, 0);
+        parcel.setDataPosition(0);
+
+        Auth0Parcelable parceledAuth0 = Auth0Parcelable.CREATOR.createFromParcel(parcel);
+        assertThat(parceledAuth0.getAuth0().getNetworkingClient(), is(sameInstance(client)));
+    }
+
+    @Test
+    public void shouldUseDefaultNetworkingClientWhenTheClientIsNotFound() {
+        //a parcel written by a previous process
+        Parcel parcel = Parcel.obtain();
+        parcel.writeString(CLIENT_ID);
+        parcel.writeString(DOMAIN);
+        parcel.writeString(CONFIG_DOMAIN);
+        parcel.writeString("Lock.Android");
+        parcel.writeString("3.2.2");
+        parcel.writeString("2.10.2");
+        parcel.writeString("b6c5e0a4-6f0e-4a59-8a43-0c4b3c2a1e9d");
+        parcel.setDataPosition(0);
+
+        Auth0Parcelable parceledAuth0 = Auth0Parcelable.CREATOR.createFromParcel(parcel);
+        assertThat(parceledAuth0.getAuth0().getClientId(), is(equalTo(CLIENT_ID)));
+        assertThat(parceledAuth0.getAuth0().getNetworkingClient(), is(instanceOf(DefaultClient.class)));
+    }
+}
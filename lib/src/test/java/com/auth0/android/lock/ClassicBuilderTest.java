@@ -6,6 +6,9 @@ import android.content.IntentFilter;
 import android.content.res.Resources;
 
 import com.auth0.android.Auth0;
+import com.auth0.android.lock.internal.LockExecutor;
+import com.auth0.android.lock.utils.CountingNetworkingClient;
+import com.auth0.android.request.NetworkingClient;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -20,6 +23,14 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.RuntimeEnvironment;
 import org.robolectric.annotation.Config;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
@@ -135,4 +146,64 @@ public class ClassicBuilderTest {
         builder.initialScreen(InitialScreen.FORGOT_PASSWORD);
         builder.build(new Activity());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldScopeTheExecutorToTheBuiltInstance() {
+        final Activity activity = Robolectric.buildActivity(Activity.class).create().get();
+        final Executor executor = Runnable::run;
+        Lock lock = Lock.newBuilder(account, callback)
+                .withExecutor(executor)
+                .build(activity);
+        Lock other = Lock.newBuilder(account, callback)
+                .build(activity);
+
+        assertThat(LockExecutor.getExecutor(lock.getOptions().getExecutorId()), is(sameInstance(executor)));
+        assertThat(other.getOptions().getExecutorId(), is(nullValue()));
+        assertThat(LockExecutor.getExecutor(), is(not(sameInstance(executor))));
+    }
+
+    @Test
+    public void shouldThrowIfConfigurationCacheDurationIsZero() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("The configuration cache duration must be greater than zero.");
+
+        Lock.newBuilder(account, callback)
+                .withConfigurationCache(0, TimeUnit.HOURS);
+    }
+
+    @Test
+    public void shouldThrowIfConfigurationCacheDurationIsNegative() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("The configuration cache duration must be greater than zero.");
+
+        Lock.newBuilder(account, callback)
+                .withConfigurationCache(-1, TimeUnit.MINUTES);
+    }
+
+    @Test
+    public void shouldThrowIfConfigurationCacheDurationIsShorterThanAMillisecond() {
+        expectedException.expect(IllegalArgumentException.class);
+
+        Lock.newBuilder(account, callback)
+                .withConfigurationCache(500, TimeUnit.MICROSECONDS);
+    }
+
+    @Test
+    public void shouldUseACopyOfTheAccountWithTheNetworkingClient() {
+        final Activity activity = Robolectric.buildActivity(Activity.class).create().get();
+        final Auth0 original = new Auth0("clientId", "domain.auth0.com");
+        final NetworkingClient defaultClient = original.getNetworkingClient();
+        final NetworkingClient client = new CountingNetworkingClient(defaultClient);
+        Lock lock = Lock.newBuilder(original, callback)
+                .withNetworkingClient(client)
+                .build(activity);
+
+        final Auth0 account = lock.getOptions().getAccount();
+        assertThat(account, is(not(sameInstance(original))));
+        assertThat(account.getNetworkingClient(), is(sameInstance(client)));
+        assertThat(account.getClientId(), is("clientId"));
+        assertThat(account.getDomainUrl(), is(original.getDomainUrl()));
+        assertThat(account.getConfigurationUrl(), is(original.getConfigurationUrl()));
+        assertThat(original.getNetworkingClient(), is(sameInstance(defaultClient)));
+    }
+}
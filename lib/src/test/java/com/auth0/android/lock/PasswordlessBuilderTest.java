@@ -8,6 +8,8 @@ import android.content.res.Resources;
 import androidx.test.core.app.ApplicationProvider;
 
 import com.auth0.android.Auth0;
+import com.auth0.android.lock.utils.CountingNetworkingClient;
+import com.auth0.android.request.NetworkingClient;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -22,6 +24,12 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.RuntimeEnvironment;
 import org.robolectric.annotation.Config;
 
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
@@ -92,4 +100,49 @@ public class PasswordlessBuilderTest {
         PasswordlessLock.Builder builder = PasswordlessLock.newBuilder(callback);
         builder.build(activity);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldThrowIfConfigurationCacheDurationIsZero() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("The configuration cache duration must be greater than zero.");
+
+        PasswordlessLock.newBuilder(account, callback)
+                .withConfigurationCache(0, TimeUnit.HOURS);
+    }
+
+    @Test
+    public void shouldThrowIfConfigurationCacheDurationIsNegative() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("The configuration cache duration must be greater than zero.");
+
+        PasswordlessLock.newBuilder(account, callback)
+                .withConfigurationCache(-1, TimeUnit.MINUTES);
+    }
+
+    @Test
+    public void shouldThrowIfConfigurationCacheDurationIsShorterThanAMillisecond() {
+        expectedException.expect(IllegalArgumentException.class);
+
+        PasswordlessLock.newBuilder(account, callback)
+                .withConfigurationCache(500, TimeUnit.MICROSECONDS);
+    }
+
+    @Test
+    public void shouldUseACopyOfTheAccountWithTheNetworkingClient() {
+        final Activity activity = Robolectric.buildActivity(Activity.class).create().get();
+        final Auth0 original = new Auth0("clientId", "domain.auth0.com");
+        final NetworkingClient defaultClient = original.getNetworkingClient();
+        final NetworkingClient client = new CountingNetworkingClient(defaultClient);
+        PasswordlessLock lock = PasswordlessLock.newBuilder(original, callback)
+                .withNetworkingClient(client)
+                .build(activity);
+
+        final Auth0 account = lock.getOptions().getAccount();
+        assertThat(account, is(not(sameInstance(original))));
+        assertThat(account.getNetworkingClient(), is(sameInstance(client)));
+        assertThat(account.getClientId(), is("clientId"));
+        assertThat(account.getDomainUrl(), is(original.getDomainUrl()));
+        assertThat(account.getConfigurationUrl(), is(original.getConfigurationUrl()));
+        assertThat(original.getNetworkingClient(), is(sameInstance(defaultClient)));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * CountrySearchIndexTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.adapters;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CountrySearchIndexTest {
+
+    private static final Country ARGENTINA = new Country("AR", "+54");
+    private static final Country BARBADOS = new Country("BB", "+1 246");
+    private static final Country CANADA = new Country("CA", "+1");
+    private static final Country IVORY_COAST = new Country("CI", "+225");
+    private static final Country UNITED_KINGDOM = new Country("GB", "+44");
+    private static final Country UNITED_STATES = new Country("US", "+1");
+
+    private Locale defaultLocale;
+    private CountrySearchIndex index;
+
+    @Before
+    public void setUp() {
+        defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.FRANCE);
+        List<Country> countries = Arrays.asList(ARGENTINA, BARBADOS, CANADA, IVORY_COAST, UNITED_KINGDOM, UNITED_STATES);
+        index = new CountrySearchIndex(countries);
+    }
+
+    @After
+    public void tearDown() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    @Test
+    public void shouldReturnAllCountriesForEmptyQuery() {
+        assertThat(index.search(""), is(sameInstance(index.getCountries())));
+        assertThat(index.search(" "), is(sameInstance(index.getCountries())));
+    }
+
+    @Test
+    public void shouldSearchByNamePrefixIgnoringCase() {
+        assertThat(index.search("arg"), contains(ARGENTINA));
+        assertThat(index.search("ARG"), contains(ARGENTINA));
+    }
+
+    @Test
+    public void shouldSearchByAnyWordOfTheName() {
+        assertThat(index.search("uni"), contains(UNITED_KINGDOM, UNITED_STATES));
+        assertThat(index.search("royaume"), contains(UNITED_KINGDOM));
+    }
+
+    @Test
+    public void shouldIgnoreAccentsAndPunctuation() {
+        assertThat(index.search("cote d'iv"), contains(IVORY_COAST));
+        assertThat(index.search("Côte"), contains(IVORY_COAST));
+        assertThat(index.search("etats"), contains(UNITED_STATES));
+    }
+
+    @Test
+    public void shouldSearchByDialCode() {
+        assertThat(index.search("+54"), contains(ARGENTINA));
+        assertThat(index.search("54"), contains(ARGENTINA));
+        assertThat(index.search("+1"), contains(BARBADOS, CANADA, UNITED_STATES));
+        assertThat(index.search("+1 24"), contains(BARBADOS));
+    }
+
+    @Test
+    public void shouldSearchByIsoCode() {
+        assertThat(index.search("gb"), contains(UNITED_KINGDOM));
+        assertThat(index.search("CI"), contains(IVORY_COAST));
+    }
+
+    @Test
+    public void shouldReturnEmptyListWhenNothingMatches() {
+        assertThat(index.search("zz"), is(empty()));
+    }
+
+    @Test
+    public void shouldNotRepeatCountriesMatchingSeveralKeys() {
+        assertThat(index.search("c"), contains(CANADA, IVORY_COAST));
+    }
+}
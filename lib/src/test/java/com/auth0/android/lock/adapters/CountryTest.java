@@ -0,0 +1,67 @@
+/*
+ * CountryTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.adapters;
+
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.junit.Assert.assertThat;
+
+public class CountryTest {
+
+    @Test
+    public void shouldBeEqualToCountryWithSameCodes() {
+        Country country = new Country("AR", "+54");
+        Country same = new Country("AR", "+54");
+
+        assertThat(country.equals(same), is(true));
+        assertThat(country.hashCode(), is(same.hashCode()));
+    }
+
+    @Test
+    public void shouldNotBeEqualToCountryWithDifferentCodes() {
+        Country country = new Country("AR", "+54");
+
+        assertThat(country, is(not(new Country("AR", "+55"))));
+        assertThat(country, is(not(new Country("AU", "+54"))));
+        assertThat(country.equals(null), is(false));
+    }
+
+    @Test
+    public void shouldCompareConsistentlyWithEquals() {
+        Country country = new Country("AR", "+54");
+
+        assertThat(country.compareTo(new Country("AR", "+54")), is(0));
+        assertThat(country.compareTo(new Country("AR", "+55")) < 0, is(true));
+        assertThat(new Country("AR", "+55").compareTo(country) > 0, is(true));
+    }
+
+    @Test
+    public void shouldSortByDisplayName() {
+        assertThat(new Country("AR", "+54").compareTo(new Country("UY", "+598")) < 0, is(true));
+        assertThat(new Country("UY", "+598").compareTo(new Country("AR", "+54")) > 0, is(true));
+    }
+}
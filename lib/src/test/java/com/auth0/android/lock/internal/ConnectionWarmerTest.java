@@ -0,0 +1,123 @@
+/*
+ * ConnectionWarmerTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.internal;
+
+import com.auth0.android.Auth0;
+import com.auth0.android.lock.utils.ApplicationAPI;
+import com.auth0.android.lock.utils.SSLTestUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 21)
+public class ConnectionWarmerTest {
+
+    private ApplicationAPI mockAPI;
+    private Auth0 account;
+
+    @Before
+    public void setUp() throws Exception {
+        SSLTestUtils sslUtils = new SSLTestUtils();
+        mockAPI = new ApplicationAPI(sslUtils);
+        account = new Auth0("client_id", mockAPI.getDomain());
+        account.setNetworkingClient(sslUtils.testClient);
+        LockExecutor.setExecutor(Runnable::run);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        ConnectionWarmer.clearWarmUps();
+        LockExecutor.setExecutor(null);
+        mockAPI.shutdown();
+    }
+
+    @Test
+    public void shouldConnectToTheAuth0Domain() throws Exception {
+        mockAPI.willReturnJSONWebKeys();
+        ConnectionWarmer.warmUp(account);
+
+        final RecordedRequest request = mockAPI.takeRequest();
+        assertThat(request.getMethod(), is("GET"));
+        assertThat(request.getPath(), is("/.well-known/jwks.json"));
+    }
+
+    @Test
+    public void shouldNotWarmUpTheSameDomainAgainRightAway() throws Exception {
+        mockAPI.willReturnJSONWebKeys();
+        mockAPI.willReturnJSONWebKeys();
+        ConnectionWarmer.warmUp(account);
+        ConnectionWarmer.warmUp(account);
+
+        assertThat(mockAPI.getRequestCount(), is(1));
+    }
+
+    @Test
+    public void shouldWarmUpAgainWhenTheTaskWasDropped() throws Exception {
+        mockAPI.willReturnJSONWebKeys();
+        LockExecutor.setExecutor(task -> {
+        });
+        ConnectionWarmer.warmUp(account);
+        LockExecutor.setExecutor(Runnable::run);
+        ConnectionWarmer.warmUp(account);
+
+        assertThat(mockAPI.getRequestCount(), is(1));
+    }
+
+    @Test
+    public void shouldWarmUpOnceWhenTheTasksWereQueued() throws Exception {
+        mockAPI.willReturnJSONWebKeys();
+        mockAPI.willReturnJSONWebKeys();
+        final List<Runnable> queued = new ArrayList<>();
+        LockExecutor.setExecutor(queued::add);
+        ConnectionWarmer.warmUp(account);
+        ConnectionWarmer.warmUp(account);
+        for (Runnable task : queued) {
+            task.run();
+        }
+
+        assertThat(mockAPI.getRequestCount(), is(1));
+    }
+
+    @Test
+    public void shouldIgnoreErrors() throws Exception {
+        mockAPI.willReturnServerError();
+        ConnectionWarmer.warmUp(account);
+
+        assertThat(mockAPI.getRequestCount(), is(1));
+    }
+}
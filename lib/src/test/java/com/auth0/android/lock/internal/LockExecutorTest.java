@@ -0,0 +1,236 @@
+/*
+ * LockExecutorTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.internal;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class LockExecutorTest {
+
+    @After
+    public void tearDown() {
+        LockExecutor.setExecutor(null);
+    }
+
+    @Test
+    public void shouldHaveDefaultExecutor() {
+        assertThat(LockExecutor.getExecutor(), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldUseCustomExecutor() {
+        Executor executor = Runnable::run;
+        LockExecutor.setExecutor(executor);
+        assertThat(LockExecutor.getExecutor(), is(sameInstance(executor)));
+    }
+
+    @Test
+    public void shouldRestoreDefaultExecutor() {
+        Executor executor = Runnable::run;
+        LockExecutor.setExecutor(executor);
+        LockExecutor.setExecutor(null);
+        assertThat(LockExecutor.getExecutor(), is(not(sameInstance(executor))));
+    }
+
+    @Test
+    public void shouldRunSynchronouslyOnDirectExecutor() {
+        LockExecutor.setExecutor(Runnable::run);
+        final AtomicBoolean ran = new AtomicBoolean();
+        Future<?> future = LockExecutor.submit(() -> ran.set(true));
+        assertThat(ran.get(), is(true));
+        assertThat(future.isDone(), is(true));
+    }
+
+    @Test
+    public void shouldRunOnWorkerThread() throws Exception {
+        final AtomicReference<String> threadName = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        LockExecutor.submit(() -> {
+            threadName.set(Thread.currentThread().getName());
+            latch.countDown();
+        });
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(threadName.get().startsWith("Lock-Worker-"), is(true));
+    }
+
+    @Test
+    public void shouldNotRunCancelledTask() {
+        final AtomicReference<Runnable> pending = new AtomicReference<>();
+        LockExecutor.setExecutor(pending::set);
+        final AtomicBoolean ran = new AtomicBoolean();
+        Future<?> future = LockExecutor.submit(() -> ran.set(true));
+        future.cancel(true);
+        pending.get().run();
+        assertThat(ran.get(), is(false));
+        assertThat(future.isCancelled(), is(true));
+    }
+
+    @Test
+    public void shouldFindRegisteredExecutor() {
+        Executor executor = Runnable::run;
+        String id = LockExecutor.register(executor);
+        assertThat(LockExecutor.getExecutor(id), is(sameInstance(executor)));
+    }
+
+    @Test
+    public void shouldFallBackToDefaultExecutorForUnknownId() {
+        assertThat(LockExecutor.getExecutor("unknown"), is(sameInstance(LockExecutor.getExecutor())));
+        assertThat(LockExecutor.getExecutor((String) null), is(sameInstance(LockExecutor.getExecutor())));
+    }
+
+    @Test
+    public void shouldRunLocalWorkOnSeparateExecutor() throws Exception {
+        assertThat(LockExecutor.getBackgroundExecutor(), is(not(sameInstance(LockExecutor.getExecutor()))));
+        final AtomicReference<String> threadName = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        LockExecutor.submit(LockExecutor.getBackgroundExecutor(), () -> {
+            threadName.set(Thread.currentThread().getName());
+            latch.countDown();
+        });
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(threadName.get().startsWith("Lock-Background-"), is(true));
+    }
+
+    @Test
+    public void shouldRunValidationOnSeparateExecutor() throws Exception {
+        assertThat(LockExecutor.getValidationExecutor(), is(not(sameInstance(LockExecutor.getExecutor()))));
+        assertThat(LockExecutor.getValidationExecutor(), is(not(sameInstance(LockExecutor.getBackgroundExecutor()))));
+        final AtomicReference<String> threadName = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        LockExecutor.getValidationExecutor().execute(() -> {
+            threadName.set(Thread.currentThread().getName());
+            latch.countDown();
+        });
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(threadName.get().startsWith("Lock-Validation-"), is(true));
+    }
+
+    @Test
+    public void shouldRunWarmUpsOnALowPriorityThread() throws Exception {
+        assertThat(LockExecutor.getWarmUpExecutor(), is(not(sameInstance(LockExecutor.getExecutor()))));
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        LockExecutor.getWarmUpExecutor().execute(() -> {
+            thread.set(Thread.currentThread());
+            latch.countDown();
+        });
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(thread.get().getName().startsWith("Lock-WarmUp-"), is(true));
+        assertThat(thread.get().getPriority(), is(Thread.MIN_PRIORITY));
+    }
+
+    @Test
+    public void shouldUseCustomExecutorForValidation() {
+        Executor executor = Runnable::run;
+        LockExecutor.setExecutor(executor);
+        assertThat(LockExecutor.getValidationExecutor(), is(sameInstance(executor)));
+    }
+
+    @Test
+    public void shouldBoundTheQueueOfNetworkWork() {
+        final ThreadPoolExecutor pool = LockExecutor.createNetworkPool();
+        final CountDownLatch release = new CountDownLatch(1);
+        boolean rejected = false;
+        try {
+            for (int i = 0; i < 100; i++) {
+                LockExecutor.submit(pool, () -> await(release));
+            }
+        } catch (RejectedExecutionException e) {
+            rejected = true;
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+        assertThat(rejected, is(true));
+    }
+
+    @Test
+    public void shouldRunDiffsOnSeparateExecutor() {
+        assertThat(LockExecutor.getDiffExecutor(), is(not(sameInstance(LockExecutor.getExecutor()))));
+        assertThat(LockExecutor.getDiffExecutor(), is(not(sameInstance(LockExecutor.getBackgroundExecutor()))));
+    }
+
+    @Test
+    public void shouldNeverRunDiffsOnTheCallingThread() throws Exception {
+        final ThreadPoolExecutor pool = LockExecutor.createDiffPool();
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicBoolean ranOnCaller = new AtomicBoolean();
+        final Thread caller = Thread.currentThread();
+        try {
+            for (int i = 0; i < 100; i++) {
+                pool.execute(() -> {
+                    if (Thread.currentThread() == caller) {
+                        ranOnCaller.set(true);
+                    }
+                    await(release);
+                });
+            }
+        } finally {
+            release.countDown();
+            pool.shutdown();
+        }
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS), is(true));
+        assertThat(ranOnCaller.get(), is(false));
+    }
+
+    @Test
+    public void shouldKeepTheLatestDiff() throws Exception {
+        final ThreadPoolExecutor pool = LockExecutor.createDiffPool();
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch latest = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 100; i++) {
+                pool.execute(() -> await(release));
+            }
+            pool.execute(latest::countDown);
+        } finally {
+            release.countDown();
+        }
+        assertThat(latest.await(5, TimeUnit.SECONDS), is(true));
+        pool.shutdownNow();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ignored) {
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * ApplicationCacheTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.auth0.android.lock.internal.configuration;
+
+import com.auth0.android.Auth0;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 21)
+public class ApplicationCacheTest {
+
+    private static final byte[] BODY = "Auth0.setClient({});".getBytes(StandardCharsets.UTF_8);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ApplicationCache cache;
+    private Auth0 account;
+    private File directory;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = folder.newFolder("cache");
+        cache = new ApplicationCache(directory, TimeUnit.MINUTES.toMillis(10));
+        account = new Auth0("client_id", "domain.auth0.com");
+    }
+
+    @Test
+    public void shouldNotCreateCacheWhenTTLIsNotSet() {
+        final Options options = Mockito.mock(Options.class);
+        Mockito.when(options.getConfigurationCacheTTL()).thenReturn(0L);
+        assertThat(ApplicationCache.from(RuntimeEnvironment.application, options), is(nullValue()));
+    }
+
+    @Test
+    public void shouldCreateCacheWhenTTLIsSet() {
+        final Options options = Mockito.mock(Options.class);
+        Mockito.when(options.getConfigurationCacheTTL()).thenReturn(1000L);
+        assertThat(ApplicationCache.from(RuntimeEnvironment.application, options), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldReturnNullWhenThereIsNoEntry() {
+        assertThat(cache.read(account), is(nullValue()));
+    }
+
+    @Test
+    public void shouldReadWrittenEntry() {
+        cache.write(account, new ApplicationCache.Entry(BODY, "\"etag\"", "Wed, 21 Oct 2015 07:28:00 GMT", 123L));
+
+        final ApplicationCache.Entry entry = cache.read(account);
+        assertThat(entry, is(notNullValue()));
+        assertThat(entry.body, is(equalTo(BODY)));
+        assertThat(entry.eTag, is("\"etag\""));
+        assertThat(entry.lastModified, is("Wed, 21 Oct 2015 07:28:00 GMT"));
+        assertThat(entry.storedAt, is(123L));
+    }
+
+    @Test
+    public void shouldReadWrittenEntryWithoutValidators() {
+        cache.write(account, new ApplicationCache.Entry(BODY, null, null, 123L));
+
+        final ApplicationCache.Entry entry = cache.read(account);
+        assertThat(entry, is(notNullValue()));
+        assertThat(entry.eTag, is(nullValue()));
+        assertThat(entry.lastModified, is(nullValue()));
+    }
+
+    @Test
+    public void shouldKeepEntriesOfDifferentAccountsApart() {
+        final Auth0 otherAccount = new Auth0("other_client_id", "domain.auth0.com");
+        cache.write(account, new ApplicationCache.Entry(BODY, "\"etag\"", null, 123L));
+
+        assertThat(cache.read(otherAccount), is(nullValue()));
+    }
+
+    @Test
+    public void shouldIgnoreEntryWithCorruptBodyLength() throws Exception {
+        cache.write(account, new ApplicationCache.Entry(BODY, null, null, 123L));
+        final File file = directory.listFiles()[0];
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(1);
+            out.writeLong(123L);
+            out.writeBoolean(false);
+            out.writeBoolean(false);
+            out.writeInt(-1);
+        }
+        assertThat(cache.read(account), is(nullValue()));
+
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(1);
+            out.writeLong(123L);
+            out.writeBoolean(false);
+            out.writeBoolean(false);
+            out.writeInt(Integer.MAX_VALUE);
+        }
+        assertThat(cache.read(account), is(nullValue()));
+    }
+
+    @Test
+    public void shouldRemoveEntry() {
+        cache.write(account, new ApplicationCache.Entry(BODY, "\"etag\"", null, 123L));
+        cache.remove(account);
+
+        assertThat(cache.read(account), is(nullValue()));
+    }
+
+    @Test
+    public void shouldDetectExpiredEntries() {
+        final long now = System.currentTimeMillis();
+        final ApplicationCache.Entry fresh = new ApplicationCache.Entry(BODY, null, null, now);
+        final ApplicationCache.Entry expired = new ApplicationCache.Entry(BODY, null, null, now - TimeUnit.MINUTES.toMillis(11));
+
+        assertThat(cache.isExpired(fresh), is(false));
+        assertThat(cache.isExpired(expired), is(true));
+        assertThat(cache.isExpired(expired.renew()), is(false));
+    }
+}
@@ -26,6 +26,7 @@ package com.auth0.android.lock.internal.configuration;
 
 import com.auth0.android.Auth0;
 import com.auth0.android.Auth0Exception;
+import com.auth0.android.lock.internal.LockExecutor;
 import com.auth0.android.lock.utils.ApplicationAPI;
 import com.auth0.android.lock.utils.CallbackMatcher;
 import com.auth0.android.lock.utils.MockCallback;
@@ -35,22 +36,42 @@ import com.google.gson.reflect.TypeToken;
 import org.hamcrest.CoreMatchers;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static com.jayway.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 @RunWith(RobolectricTestRunner.class)
 @Config(sdk = 21)
 public class ApplicationFetcherTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private ApplicationFetcher appFetcher;
     private ApplicationAPI mockAPI;
+    private Auth0 account;
 
     @Before
     public void setUp() throws Exception {
@@ -58,7 +79,7 @@ public class ApplicationFetcherTest {
         mockAPI = new ApplicationAPI(sslUtils);
 
         final Options options = Mockito.mock(Options.class);
-        Auth0 account = new Auth0("client_id", mockAPI.getDomain());
+        account = new Auth0("client_id", mockAPI.getDomain());
         account.setNetworkingClient(sslUtils.testClient);
         Mockito.when(options.getAccount()).thenReturn(account);
         appFetcher = new ApplicationFetcher(account);
@@ -66,6 +87,8 @@ public class ApplicationFetcherTest {
 
     @After
     public void tearDown() throws Exception {
+        ApplicationFetcher.clearPrefetched();
+        LockExecutor.setExecutor(null);
         mockAPI.shutdown();
     }
 
@@ -94,4 +117,417 @@ public class ApplicationFetcherTest {
         assertThat(callback.getError(), CoreMatchers.instanceOf(Auth0Exception.class));
         assertThat(callback.getError().getCause().getCause().getMessage(), CoreMatchers.containsString("Invalid App Info JSONP"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnExceptionOnNonObjectJSONPResponse() throws Exception {
+        mockAPI.willReturnJSONPResponse("Auth0.setClient([1, 2, 3]);");
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+        mockAPI.takeRequest();
+
+        TypeToken<List<Connection>> applicationType = new TypeToken<List<Connection>>(){};
+        TypeToken<Auth0Exception> errorType = new TypeToken<Auth0Exception>() {};
+        assertThat(callback, CallbackMatcher.hasErrorOfType(applicationType, errorType));
+        assertThat(callback.getError().getCause().getCause().getMessage(), CoreMatchers.containsString("Invalid JSON value of App Info"));
+    }
+
+    @Test
+    public void shouldReturnExceptionOnEmptyJSONPResponse() throws Exception {
+        mockAPI.willReturnJSONPResponse("Auth0.setClient(");
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+        mockAPI.takeRequest();
+
+        TypeToken<List<Connection>> applicationType = new TypeToken<List<Connection>>(){};
+        TypeToken<Auth0Exception> errorType = new TypeToken<Auth0Exception>() {};
+        assertThat(callback, CallbackMatcher.hasErrorOfType(applicationType, errorType));
+        assertThat(callback.getError().getCause().getCause().getMessage(), CoreMatchers.containsString("Invalid App Info JSONP"));
+    }
+
+    @Test
+    public void shouldParseLargeJSONPResponse() throws Exception {
+        final int connectionsCount = 200;
+        final int aliasesCount = 50;
+        StringBuilder sb = new StringBuilder("Auth0.setClient({\"id\":\"CLIENTID\",\"tenant\":\"overmind\",\"authorize\":\"https://samples.auth0.com/authorize\",\"callback\":\"http://localhost:3000/\",\"strategies\":[{\"name\":\"ad\",\"connections\":[");
+        for (int i = 0; i < connectionsCount; i++) {
+            sb.append(i == 0 ? "" : ",").append("{\"name\":\"ad-").append(i).append("\",\"domain\":\"domain").append(i).append(".com\",\"domain_aliases\":[");
+            for (int j = 0; j < aliasesCount; j++) {
+                sb.append(j == 0 ? "" : ",").append("\"alias").append(j).append(".domain").append(i).append(".com\"");
+            }
+            sb.append("]}");
+        }
+        sb.append("]}]});");
+        mockAPI.willReturnJSONPResponse(sb.toString());
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+        mockAPI.takeRequest();
+
+        TypeToken<List<Connection>> applicationType = new TypeToken<List<Connection>>(){};
+        TypeToken<Auth0Exception> errorType = new TypeToken<Auth0Exception>() {};
+        assertThat(callback, CallbackMatcher.hasPayloadOfType(applicationType, errorType));
+        assertThat(callback.getPayload().size(), is(connectionsCount));
+        assertThat(callback.getPayload().get(connectionsCount - 1).getDomainSet().size(), is(aliasesCount + 1));
+    }
+
+    @Test
+    public void shouldReturnPrefetchedApplicationWithoutRequest() throws Exception {
+        mockAPI.willReturnValidJSONPResponse();
+        appFetcher.prefetch();
+        mockAPI.takeRequest();
+        await().until(() -> ApplicationFetcher.hasPrefetched(account));
+
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        new ApplicationFetcher(account).fetch(callback);
+
+        assertThat(callback.getPayload(), is(notNullValue()));
+        assertThat(callback.getPayload().size(), is(1));
+        assertThat(mockAPI.getRequestCount(), is(1));
+        assertThat(ApplicationFetcher.hasPrefetched(account), is(false));
+    }
+
+    @Test
+    public void shouldFetchAgainAfterPrefetchedApplicationWasUsed() throws Exception {
+        mockAPI.willReturnValidJSONPResponse();
+        mockAPI.willReturnValidJSONPResponse();
+        appFetcher.prefetch();
+        mockAPI.takeRequest();
+        await().until(() -> ApplicationFetcher.hasPrefetched(account));
+        appFetcher.fetch(new MockCallback<>());
+
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+        mockAPI.takeRequest();
+
+        TypeToken<List<Connection>> applicationType = new TypeToken<List<Connection>>(){};
+        TypeToken<Auth0Exception> errorType = new TypeToken<Auth0Exception>() {};
+        assertThat(callback, CallbackMatcher.hasPayloadOfType(applicationType, errorType));
+        assertThat(mockAPI.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void shouldFetchSynchronouslyOnDirectExecutor() throws Exception {
+        LockExecutor.setExecutor(Runnable::run);
+        mockAPI.willReturnValidJSONPResponse();
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+
+        assertThat(callback.getPayload(), is(notNullValue()));
+        assertThat(mockAPI.getRequestCount(), is(1));
+    }
+
+    @Test
+    public void shouldDeliverUnexpectedErrorsToTheCallback() throws Exception {
+        LockExecutor.setExecutor(Runnable::run);
+        account.setNetworkingClient((url, options) -> {
+            throw new IllegalStateException("Unexpected");
+        });
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+
+        assertThat(callback.getPayload(), is(nullValue()));
+        assertThat(callback.getError(), is(notNullValue()));
+        assertThat(callback.getError().getCause().getCause(), CoreMatchers.instanceOf(IllegalStateException.class));
+        assertThat(appFetcher.isFinished(), is(true));
+    }
+
+    @Test
+    public void shouldNotNotifyCallbackAfterCancel() throws Exception {
+        final AtomicReference<Runnable> pending = new AtomicReference<>();
+        LockExecutor.setExecutor(pending::set);
+        mockAPI.willReturnValidJSONPResponse();
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+        appFetcher.cancel();
+        pending.get().run();
+
+        assertThat(callback.getPayload(), is(nullValue()));
+        assertThat(callback.getError(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldShareTheFetchInProgressForTheSameAccount() throws Exception {
+        final List<Runnable> pending = new ArrayList<>();
+        LockExecutor.setExecutor(pending::add);
+        mockAPI.willReturnValidJSONPResponse();
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        final MockCallback<List<Connection>, Auth0Exception> otherCallback = new MockCallback<>();
+        appFetcher.fetch(callback);
+        new ApplicationFetcher(account).fetch(otherCallback);
+
+        assertThat(pending.size(), is(1));
+        pending.get(0).run();
+
+        assertThat(callback.getPayload(), is(notNullValue()));
+        assertThat(otherCallback.getPayload(), is(notNullValue()));
+        assertThat(otherCallback.getPayload(), is(not(sameInstance(callback.getPayload()))));
+        assertThat(otherCallback.getPayload(), is(equalTo(callback.getPayload())));
+        assertThat(mockAPI.getRequestCount(), is(1));
+        assertThat(ApplicationFetcher.isInFlight(account), is(false));
+    }
+
+    @Test
+    public void shouldNotifyTheOtherCallersWhenOneCancels() throws Exception {
+        final List<Runnable> pending = new ArrayList<>();
+        LockExecutor.setExecutor(pending::add);
+        mockAPI.willReturnValidJSONPResponse();
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        final MockCallback<List<Connection>, Auth0Exception> otherCallback = new MockCallback<>();
+        appFetcher.fetch(callback);
+        new ApplicationFetcher(account).fetch(otherCallback);
+        appFetcher.cancel();
+        pending.get(0).run();
+
+        assertThat(callback.getPayload(), is(nullValue()));
+        assertThat(otherCallback.getPayload(), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldNotShareTheFetchAfterItCompleted() throws Exception {
+        LockExecutor.setExecutor(Runnable::run);
+        mockAPI.willReturnValidJSONPResponse();
+        mockAPI.willReturnValidJSONPResponse();
+        appFetcher.fetch(new MockCallback<>());
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        new ApplicationFetcher(account).fetch(callback);
+
+        assertThat(callback.getPayload(), is(notNullValue()));
+        assertThat(mockAPI.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void shouldJoinThePrefetchInProgress() throws Exception {
+        final List<Runnable> pending = new ArrayList<>();
+        LockExecutor.setExecutor(pending::add);
+        mockAPI.willReturnValidJSONPResponse();
+        appFetcher.prefetch();
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        new ApplicationFetcher(account).fetch(callback);
+
+        assertThat(pending.size(), is(1));
+        pending.get(0).run();
+
+        assertThat(callback.getPayload(), is(notNullValue()));
+        assertThat(mockAPI.getRequestCount(), is(1));
+        assertThat(ApplicationFetcher.hasPrefetched(account), is(false));
+    }
+
+    @Test
+    public void shouldKeepThePrefetchedApplicationWhenTheJoinedCallerCancels() throws Exception {
+        final List<Runnable> pending = new ArrayList<>();
+        LockExecutor.setExecutor(pending::add);
+        mockAPI.willReturnValidJSONPResponse();
+        appFetcher.prefetch();
+        final ApplicationFetcher other = new ApplicationFetcher(account);
+        other.fetch(new MockCallback<>());
+        other.cancel();
+        pending.get(0).run();
+
+        assertThat(ApplicationFetcher.hasPrefetched(account), is(true));
+    }
+
+    @Test
+    public void shouldNotKeepThePrefetchedApplicationLongerThanTheCacheTTL() throws Exception {
+        LockExecutor.setExecutor(Runnable::run);
+        final ApplicationCache cache = new ApplicationCache(folder.newFolder("cache"), 0, true);
+        mockAPI.willReturnValidJSONPResponse();
+        new ApplicationFetcher(account, cache).prefetch();
+
+        assertThat(mockAPI.getRequestCount(), is(1));
+        assertThat(ApplicationFetcher.hasPrefetched(account), is(false));
+    }
+
+    @Test
+    public void shouldAbortTheFetchWhenEveryCallerCancels() throws Exception {
+        final List<Runnable> pending = new ArrayList<>();
+        LockExecutor.setExecutor(pending::add);
+        final ApplicationFetcher otherFetcher = new ApplicationFetcher(account);
+        appFetcher.fetch(new MockCallback<>());
+        otherFetcher.fetch(new MockCallback<>());
+        appFetcher.cancel();
+        assertThat(ApplicationFetcher.isInFlight(account), is(true));
+        otherFetcher.cancel();
+
+        assertThat(ApplicationFetcher.isInFlight(account), is(false));
+        assertThat(((Future<?>) pending.get(0)).isCancelled(), is(true));
+    }
+
+    @Test
+    public void shouldRetryAfterServerError() throws Exception {
+        mockAPI.willReturnServerError();
+        mockAPI.willReturnValidJSONPResponse();
+        appFetcher = new ApplicationFetcher(account, null, new RetryPolicy(0, 1, 0, 1));
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+
+        await().until(() -> callback.getPayload() != null);
+        assertThat(mockAPI.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void shouldRetryAfterConnectionError() throws Exception {
+        mockAPI.willDropConnection();
+        mockAPI.willReturnValidJSONPResponse();
+        appFetcher = new ApplicationFetcher(account, null, new RetryPolicy(0, 1, 0, 1));
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+
+        await().until(() -> callback.getPayload() != null);
+        assertThat(callback.getError(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldRetryTimedOutRequest() throws Exception {
+        mockAPI.willReturnValidJSONPResponseAfter(2, TimeUnit.SECONDS);
+        mockAPI.willReturnValidJSONPResponse();
+        appFetcher = new ApplicationFetcher(account, null, new RetryPolicy(300, 1, 0, 1));
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        final long start = System.currentTimeMillis();
+        appFetcher.fetch(callback);
+
+        await().until(() -> callback.getPayload() != null);
+        assertThat(System.currentTimeMillis() - start < 2000, is(true));
+        assertThat(mockAPI.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void shouldUseTheFirstResponseOfHedgedRequests() throws Exception {
+        mockAPI.willReturnValidJSONPResponseAfter(2, TimeUnit.SECONDS);
+        mockAPI.willReturnValidJSONPResponse();
+        appFetcher = new ApplicationFetcher(account, null, new RetryPolicy(0, 0, 100, 1));
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        final long start = System.currentTimeMillis();
+        appFetcher.fetch(callback);
+
+        await().until(() -> callback.getPayload() != null);
+        assertThat(System.currentTimeMillis() - start < 2000, is(true));
+        assertThat(mockAPI.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void shouldFailWhenEveryAttemptFails() throws Exception {
+        mockAPI.willReturnServerError();
+        mockAPI.willReturnServerError();
+        appFetcher = new ApplicationFetcher(account, null, new RetryPolicy(0, 1, 0, 1));
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+
+        await().until(() -> callback.getError() != null);
+        assertThat(callback.getPayload(), is(nullValue()));
+        assertThat(mockAPI.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void shouldReturnCachedApplicationWithoutRequest() throws Exception {
+        final ApplicationCache cache = new ApplicationCache(folder.newFolder("cache"), TimeUnit.MINUTES.toMillis(10));
+        cache.write(account, new ApplicationCache.Entry(ApplicationAPI.VALID_JSONP.getBytes(StandardCharsets.UTF_8), null, null, System.currentTimeMillis()));
+        appFetcher = new ApplicationFetcher(account, cache);
+
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+
+        TypeToken<List<Connection>> applicationType = new TypeToken<List<Connection>>(){};
+        TypeToken<Auth0Exception> errorType = new TypeToken<Auth0Exception>() {};
+        assertThat(callback, CallbackMatcher.hasPayloadOfType(applicationType, errorType));
+        assertThat(mockAPI.getRequestCount(), is(0));
+    }
+
+    @Test
+    public void shouldStoreFetchedApplicationInCache() throws Exception {
+        final ApplicationCache cache = new ApplicationCache(folder.newFolder("cache"), TimeUnit.MINUTES.toMillis(10));
+        appFetcher = new ApplicationFetcher(account, cache);
+        mockAPI.willReturnValidJSONPResponseWithETag("\"v1\"");
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+        mockAPI.takeRequest();
+
+        TypeToken<List<Connection>> applicationType = new TypeToken<List<Connection>>(){};
+        TypeToken<Auth0Exception> errorType = new TypeToken<Auth0Exception>() {};
+        assertThat(callback, CallbackMatcher.hasPayloadOfType(applicationType, errorType));
+        final ApplicationCache.Entry entry = cache.read(account);
+        assertThat(entry, is(notNullValue()));
+        assertThat(entry.eTag, is("\"v1\""));
+    }
+
+    @Test
+    public void shouldRevalidateExpiredCachedApplication() throws Exception {
+        final ApplicationCache cache = new ApplicationCache(folder.newFolder("cache"), TimeUnit.MINUTES.toMillis(10));
+        final long storedAt = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(20);
+        cache.write(account, new ApplicationCache.Entry(ApplicationAPI.VALID_JSONP.getBytes(StandardCharsets.UTF_8), "\"v1\"", null, storedAt));
+        appFetcher = new ApplicationFetcher(account, cache);
+        mockAPI.willReturnNotModifiedResponse();
+
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+        final RecordedRequest request = mockAPI.takeRequest();
+
+        TypeToken<List<Connection>> applicationType = new TypeToken<List<Connection>>(){};
+        TypeToken<Auth0Exception> errorType = new TypeToken<Auth0Exception>() {};
+        assertThat(callback, CallbackMatcher.hasPayloadOfType(applicationType, errorType));
+        assertThat(request.getHeader("If-None-Match"), is("\"v1\""));
+    }
+
+    @Test
+    public void shouldRetryTheRevalidationWithThePolicy() throws Exception {
+        final ApplicationCache cache = new ApplicationCache(folder.newFolder("cache"), TimeUnit.MINUTES.toMillis(10));
+        final long storedAt = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(20);
+        cache.write(account, new ApplicationCache.Entry(ApplicationAPI.VALID_JSONP.getBytes(StandardCharsets.UTF_8), "\"v1\"", null, storedAt));
+        appFetcher = new ApplicationFetcher(account, cache, new RetryPolicy(0, 1, 0, 1));
+        mockAPI.willReturnServerError();
+        mockAPI.willReturnNotModifiedResponse();
+
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+
+        await().until(() -> appFetcher.isFinished());
+        assertThat(mockAPI.getRequestCount(), is(2));
+        assertThat(cache.isExpired(cache.read(account)), is(false));
+    }
+
+    @Test
+    public void shouldDeliverRevalidatedApplicationWhenItChanged() throws Exception {
+        final ApplicationCache cache = new ApplicationCache(folder.newFolder("cache"), 0, true);
+        final String stale = "Auth0.setClient({\"id\":\"CLIENTID\",\"strategies\":[]});";
+        cache.write(account, new ApplicationCache.Entry(stale.getBytes(StandardCharsets.UTF_8), "\"v1\"", null, System.currentTimeMillis()));
+        appFetcher = new ApplicationFetcher(account, cache);
+        mockAPI.willReturnValidJSONPResponseWithETag("\"v2\"");
+
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+        mockAPI.takeRequest();
+
+        await().until(() -> callback.getPayload() != null && callback.getPayload().size() == 1);
+        assertThat(callback.getPayload().get(0).getName(), is("twitter"));
+        assertThat(cache.read(account).eTag, is("\"v2\""));
+    }
+
+    @Test
+    public void shouldFinishOnlyAfterTheRevalidation() throws Exception {
+        final AtomicReference<Runnable> pending = new AtomicReference<>();
+        LockExecutor.setExecutor(pending::set);
+        final ApplicationCache cache = new ApplicationCache(folder.newFolder("cache"), 0, true);
+        final String stale = "Auth0.setClient({\"id\":\"CLIENTID\",\"strategies\":[]});";
+        cache.write(account, new ApplicationCache.Entry(stale.getBytes(StandardCharsets.UTF_8), "\"v1\"", null, System.currentTimeMillis()));
+        appFetcher = new ApplicationFetcher(account, cache);
+        mockAPI.willReturnValidJSONPResponseWithETag("\"v2\"");
+
+        final MockCallback<List<Connection>, Auth0Exception> callback = new MockCallback<>();
+        appFetcher.fetch(callback);
+        assertThat(appFetcher.isFinished(), is(false));
+        pending.get().run();
+
+        assertThat(callback.getPayload().size(), is(1));
+        assertThat(appFetcher.isFinished(), is(true));
+    }
+
+    @Test
+    public void shouldFinishWhenCancelled() throws Exception {
+        final AtomicReference<Runnable> pending = new AtomicReference<>();
+        LockExecutor.setExecutor(pending::set);
+        mockAPI.willReturnValidJSONPResponse();
+        appFetcher.fetch(new MockCallback<>());
+        assertThat(appFetcher.isFinished(), is(false));
+        appFetcher.cancel();
+
+        assertThat(appFetcher.isFinished(), is(true));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * ConfigurationCacheTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.internal.configuration;
+
+import com.auth0.android.lock.utils.CustomField;
+import com.auth0.android.lock.utils.CustomField.FieldType;
+import com.auth0.android.lock.utils.HiddenField;
+import com.auth0.android.lock.utils.SignUpField;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.FileReader;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 21)
+public class ConfigurationCacheTest extends GsonBaseTest {
+
+    private ConfigurationCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new ConfigurationCache(2);
+    }
+
+    @Test
+    public void shouldReuseConfigurationForEqualConnectionsAndOptions() throws Exception {
+        final Configuration configuration = cache.obtain(readConnections(), createOptions());
+        final Configuration cached = cache.obtain(readConnections(), createOptions());
+
+        assertThat(cached, is(sameInstance(configuration)));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void shouldReuseConfigurationAfterTheActiveFlowWasDisabled() throws Exception {
+        final Options options = createOptions();
+        options.setEnterpriseConnectionsUsingWebForm(Collections.singletonList("MyAD"));
+        final Configuration configuration = cache.obtain(readConnections(), options);
+        final Configuration cached = cache.obtain(readConnections(), options);
+
+        assertThat(cached, is(sameInstance(configuration)));
+    }
+
+    @Test
+    public void shouldCreateConfigurationWhenOptionsChange() throws Exception {
+        final List<Connection> connections = readConnections();
+        final Configuration configuration = cache.obtain(connections, createOptions());
+        final Options options = createOptions();
+        options.setAllowSignUp(false);
+        final Configuration updated = cache.obtain(connections, options);
+
+        assertThat(updated, is(not(sameInstance(configuration))));
+        assertThat(updated.allowSignUp(), is(false));
+        assertThat(cache.size(), is(2));
+    }
+
+    @Test
+    public void shouldCreateConfigurationWhenSignUpFieldsChange() throws Exception {
+        final List<Connection> connections = readConnections();
+        final Configuration configuration = cache.obtain(connections, createOptions());
+        final Options options = createOptions();
+        options.setSignUpFields(Collections.<SignUpField>singletonList(new HiddenField("key", "other value", CustomField.Storage.USER_METADATA)));
+        final Configuration updated = cache.obtain(connections, options);
+
+        assertThat(updated, is(not(sameInstance(configuration))));
+    }
+
+    @Test
+    public void shouldCreateConfigurationWhenConnectionsChange() throws Exception {
+        final List<Connection> connections = readConnections();
+        final Configuration configuration = cache.obtain(connections, createOptions());
+        final Configuration updated = cache.obtain(connections.subList(1, connections.size()), createOptions());
+
+        assertThat(updated, is(not(sameInstance(configuration))));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedConfiguration() throws Exception {
+        final List<Connection> connections = readConnections();
+        final Options loginOnly = createOptions();
+        loginOnly.setAllowSignUp(false);
+        final Options signUpOnly = createOptions();
+        signUpOnly.setAllowLogIn(false);
+
+        final Configuration first = cache.obtain(connections, createOptions());
+        cache.obtain(connections, loginOnly);
+        cache.obtain(connections, createOptions());
+        cache.obtain(connections, signUpOnly);
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.obtain(connections, createOptions()), is(sameInstance(first)));
+    }
+
+    @Test
+    public void shouldClear() throws Exception {
+        final List<Connection> connections = readConnections();
+        final Configuration configuration = cache.obtain(connections, createOptions());
+        cache.clear();
+
+        assertThat(cache.size(), is(0));
+        assertThat(cache.obtain(connections, createOptions()), is(not(sameInstance(configuration))));
+    }
+
+    private List<Connection> readConnections() throws Exception {
+        final FileReader fr = new FileReader("src/test/resources/appinfo.json");
+        Type applicationType = new TypeToken<List<Connection>>() {
+        }.getType();
+        return createGson().fromJson(new JsonReader(fr), applicationType);
+    }
+
+    private Options createOptions() {
+        final Options options = new Options();
+        options.setSignUpFields(Arrays.<SignUpField>asList(
+                new CustomField(0, FieldType.TYPE_NAME, "name", 0),
+                new HiddenField("key", "value", CustomField.Storage.USER_METADATA)));
+        //noinspection ResourceType
+        options.withAuthStyle("facebook-prod", 123456);
+        return options;
+    }
+}
@@ -47,7 +47,9 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.auth0.android.lock.internal.configuration.ConnectionMatcher.hasConnection;
 import static com.auth0.android.lock.internal.configuration.ConnectionMatcher.hasName;
@@ -613,6 +615,32 @@ public class ConfigurationTest extends GsonBaseTest {
         assertThat(configuration.usePasswordlessAutoSubmit(), is(true));
     }
 
+    @Test
+    public void shouldPartitionTheConnectionsOfALargeTenant() {
+        final String[] strategies = {"auth0", "email", "ad", "facebook", "sms"};
+        List<Connection> tenant = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Map<String, Object> values = new HashMap<>();
+            values.put("name", "connection-" + i);
+            tenant.add(Connection.newConnectionFor(strategies[i % strategies.length], values));
+        }
+        options.useDatabaseConnection("connection-495");
+        options.setConnections(Arrays.asList("connection-5", "connection-495", "connection-1", "connection-2", "connection-3", "connection-498", "connection-4"));
+
+        configuration = new Configuration(tenant, options);
+        assertThat(configuration.getDatabaseConnection(), hasName("connection-495"));
+        assertThat(configuration.getPasswordlessConnections(), contains(hasName("connection-1"), hasName("connection-4")));
+        assertThat(configuration.getEnterpriseConnections(), contains(hasName("connection-2")));
+        assertThat(configuration.getSocialConnections(), contains(hasName("connection-3"), hasName("connection-498")));
+
+        options.setConnections(Collections.<String>emptyList());
+        configuration = new Configuration(tenant, options);
+        assertThat(configuration.getPasswordlessConnections(), hasSize(200));
+        assertThat(configuration.getEnterpriseConnections(), hasSize(100));
+        assertThat(configuration.getSocialConnections(), hasSize(100));
+        assertThat(configuration.getSocialConnections().get(99), hasName("connection-498"));
+    }
+
     private Configuration unfilteredConfig() {
         return new Configuration(connections, options);
     }
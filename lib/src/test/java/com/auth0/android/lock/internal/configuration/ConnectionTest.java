@@ -31,14 +31,22 @@ import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.auth0.android.lock.internal.configuration.Connection.newConnectionFor;
 import static com.auth0.android.lock.internal.configuration.ConnectionMatcher.hasType;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 
@@ -80,6 +88,31 @@ public class ConnectionTest {
         assertThat(connection.valueForKey("name", String.class), is(nullValue()));
     }
 
+    @Test
+    public void shouldBeEqualToConnectionWithSameValues() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", CONNECTION_NAME);
+        values.put(KEY, VALUE);
+        Map<String, Object> otherValues = new HashMap<>(values);
+        Connection connection = newConnectionFor("strategy", values);
+        Connection other = newConnectionFor("strategy", otherValues);
+        assertThat(connection, is(equalTo(other)));
+        assertThat(connection.hashCode(), is(other.hashCode()));
+    }
+
+    @Test
+    public void shouldNotBeEqualToConnectionWithDifferentValues() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", CONNECTION_NAME);
+        values.put(KEY, VALUE);
+        Map<String, Object> otherValues = new HashMap<>();
+        otherValues.put("name", CONNECTION_NAME);
+        otherValues.put(KEY, "other-value");
+        Connection connection = newConnectionFor("strategy", values);
+        Connection other = newConnectionFor("strategy", otherValues);
+        assertThat(connection, is(not(equalTo(other))));
+    }
+
     @Test
     public void shouldRaiseExceptionWhenNameIsNull() {
         expectedException.expect(IllegalArgumentException.class);
@@ -297,6 +330,83 @@ public class ConnectionTest {
         assertThat(waad.isActiveFlowEnabled(), is(false));
     }
 
+    @Test
+    public void shouldParseDomainSetOnce() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "my-connection");
+        values.put("domain", "Auth0.com");
+        values.put("domain_aliases", Arrays.asList("AUTH0.ORG", "auth0.net"));
+        Connection connection = newConnectionFor("ad", values);
+
+        Set<String> domains = connection.getDomainSet();
+        assertThat(domains, containsInAnyOrder("auth0.com", "auth0.org", "auth0.net"));
+        assertThat(connection.getDomainSet(), is(sameInstance(domains)));
+    }
+
+    @Test
+    public void shouldReturnEmptyDomainSetWithoutDomain() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "my-connection");
+        values.put("domain_aliases", Collections.singletonList("auth0.org"));
+        Connection connection = newConnectionFor("ad", values);
+
+        assertThat(connection.getDomainSet(), is(empty()));
+    }
+
+    @Test
+    public void shouldNotAllowToModifyDomainSet() {
+        expectedException.expect(UnsupportedOperationException.class);
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "my-connection");
+        values.put("domain", "auth0.com");
+        Connection connection = newConnectionFor("ad", values);
+
+        connection.getDomainSet().add("auth0.org");
+    }
+
+    @Test
+    public void shouldParseDatabaseFlags() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "my-connection");
+        values.put("requires_username", true);
+        values.put("showSignup", true);
+        values.put("showForgot", false);
+        Connection connection = newConnectionFor("auth0", values);
+
+        assertThat(connection.requiresUsername(), is(true));
+        assertThat(connection.showSignUp(), is(true));
+        assertThat(connection.showForgot(), is(false));
+    }
+
+    @Test
+    public void shouldKeepParsedValuesAvailableByKey() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "my-connection");
+        values.put("requires_username", true);
+        values.put("domain", "Auth0.com");
+        values.put("domain_aliases", Arrays.asList("auth0.org"));
+        values.put(KEY, VALUE);
+        Connection connection = newConnectionFor("ad", values);
+
+        assertThat(values.keySet(), containsInAnyOrder(KEY));
+        assertThat(connection.valueForKey("requires_username", Boolean.class), is(true));
+        assertThat(connection.booleanForKey("requires_username"), is(true));
+        assertThat(connection.valueForKey("domain", String.class), is("Auth0.com"));
+        assertThat(connection.valueForKey("domain_aliases", List.class), is(equalTo((Object) Arrays.asList("auth0.org"))));
+        assertThat(connection.getValues().keySet(), containsInAnyOrder(KEY, "requires_username", "domain", "domain_aliases"));
+    }
+
+    @Test
+    public void shouldKeepValuesOfUnexpectedTypeInTheMap() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "my-connection");
+        values.put("showSignup", "yes");
+        Connection connection = newConnectionFor("auth0", values);
+
+        assertThat(connection.showSignUp(), is(false));
+        assertThat(connection.valueForKey("showSignup", String.class), is("yes"));
+    }
+
     private Connection connectionForStrategy(String connectionName) {
         Map<String, Object> map = new HashMap<>();
         map.put("name", "my-connection");
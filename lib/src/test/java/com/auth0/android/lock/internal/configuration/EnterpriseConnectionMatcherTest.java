@@ -111,6 +111,88 @@ public class EnterpriseConnectionMatcherTest {
         assertThat(connection, is(nullValue()));
     }
 
+    @Test
+    public void shouldParseIgnoringCase() {
+        OAuthConnection connection = parser.parse("username@PeP.CoM");
+        assertThat(connection, is(notNullValue()));
+        assertThat(connection.getName(), is(equalTo(NAME_VALUE)));
+    }
+
+    @Test
+    public void shouldPreferTheFirstConnectionDeclaringTheDomain() {
+        List<OAuthConnection> connections = new ArrayList<>();
+        connections.add(createConnection("first", "first.com", Arrays.asList("shared.com")));
+        connections.add(createConnection("second", "shared.com", new ArrayList<String>()));
+        EnterpriseConnectionMatcher parser = new EnterpriseConnectionMatcher(connections);
+
+        OAuthConnection connection = parser.parse("username@shared.com");
+        assertThat(connection, is(notNullValue()));
+        assertThat(connection.getName(), is(equalTo("first")));
+    }
+
+    @Test
+    public void shouldMatchAmongThousandsOfDomains() {
+        final int connectionsCount = 1000;
+        final int aliasesCount = 10;
+        List<OAuthConnection> connections = new ArrayList<>();
+        for (int i = 0; i < connectionsCount; i++) {
+            List<String> aliases = new ArrayList<>();
+            for (int j = 0; j < aliasesCount; j++) {
+                aliases.add("alias" + j + ".domain" + i + ".com");
+            }
+            connections.add(createConnection("connection" + i, "domain" + i + ".com", aliases));
+        }
+        EnterpriseConnectionMatcher parser = new EnterpriseConnectionMatcher(connections);
+
+        for (int i = 0; i < connectionsCount; i++) {
+            OAuthConnection connection = parser.parse("username@alias" + (aliasesCount - 1) + ".domain" + i + ".com");
+            assertThat(connection, is(notNullValue()));
+            assertThat(connection.getName(), is(equalTo("connection" + i)));
+        }
+        assertThat(parser.parse("username@alias" + aliasesCount + ".domain0.com"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldKeepMatchingWhileTheUsernameChanges() {
+        assertThat(parser.parse("u@pep.com"), is(notNullValue()));
+        assertThat(parser.parse("us@pep.com"), is(notNullValue()));
+        assertThat(parser.parse("us@pep.co"), is(nullValue()));
+        assertThat(parser.parse("us@pep.com"), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldMatchDomainPrefix() {
+        assertThat(parser.matchesDomainPrefix("username@pepe"), is(true));
+        assertThat(parser.matchesDomainPrefix("username@pep."), is(true));
+        assertThat(parser.matchesDomainPrefix("username@PEPE.C"), is(true));
+        assertThat(parser.matchesDomainPrefix("username@pe.pe"), is(true));
+        assertThat(parser.parse("username@pep."), is(nullValue()));
+    }
+
+    @Test
+    public void shouldNotMatchDomainPrefixOfSeveralDomains() {
+        assertThat(parser.matchesDomainPrefix("username@p"), is(false));
+        assertThat(parser.matchesDomainPrefix("username@pe"), is(false));
+        assertThat(parser.matchesDomainPrefix("username@pep"), is(false));
+    }
+
+    @Test
+    public void shouldNotMatchUnknownDomainPrefix() {
+        assertThat(parser.matchesDomainPrefix("username@x"), is(false));
+        assertThat(parser.matchesDomainPrefix("username@pepe.com.ar"), is(false));
+        assertThat(parser.matchesDomainPrefix("username@"), is(false));
+        assertThat(parser.matchesDomainPrefix("username"), is(false));
+    }
+
+    private Connection createConnection(String name, String domain, List<String> aliases) {
+        Map<String, Object> map = new HashMap<>();
+        map.put(NAME_KEY, name);
+        map.put(DOMAIN_KEY, domain);
+        map.put(DOMAIN_ALIASES_KEY, aliases);
+
+        return newConnectionFor(ENTERPRISE_STRATEGY, map);
+    }
+
     private Connection createConnection() {
         Map<String, Object> map = new HashMap<>();
         map.put(NAME_KEY, NAME_VALUE);
@@ -553,6 +553,60 @@ public class OptionsTest {
         assertThat(parceledOptions.getScheme(), is("auth0"));
     }
 
+    @Test
+    public void shouldSetConfigurationCacheTTL() {
+        options.setConfigurationCacheTTL(60000);
+
+        Parcel parcel = Parcel.obtain();
+        options.writeToParcel(parcel, 0);
+        parcel.setDataPosition(0);
+
+        Options parceledOptions = Options.CREATOR.createFromParcel(parcel);
+        assertThat(options.getConfigurationCacheTTL(), is(60000L));
+        assertThat(parceledOptions.getConfigurationCacheTTL(), is(60000L));
+    }
+
+    @Test
+    public void shouldSetConfigurationRequestPolicy() {
+        options.setConfigurationRequestTimeout(3000);
+        options.setConfigurationRequestRetries(2);
+        options.setConfigurationHedgingDelay(800);
+
+        Parcel parcel = Parcel.obtain();
+        options.writeToParcel(parcel, 0);
+        parcel.setDataPosition(0);
+
+        Options parceledOptions = Options.CREATOR.createFromParcel(parcel);
+        assertThat(parceledOptions.getConfigurationRequestTimeout(), is(3000L));
+        assertThat(parceledOptions.getConfigurationRequestRetries(), is(2));
+        assertThat(parceledOptions.getConfigurationHedgingDelay(), is(800L));
+    }
+
+    @Test
+    public void shouldSetExecutorId() {
+        options.setExecutorId("executor-id");
+
+        Parcel parcel = Parcel.obtain();
+        options.writeToParcel(parcel, 0);
+        parcel.setDataPosition(0);
+
+        Options parceledOptions = Options.CREATOR.createFromParcel(parcel);
+        assertThat(parceledOptions.getExecutorId(), is("executor-id"));
+    }
+
+    @Test
+    public void shouldUseStaleWhileRevalidate() {
+        options.setStaleWhileRevalidate(true);
+
+        Parcel parcel = Parcel.obtain();
+        options.writeToParcel(parcel, 0);
+        parcel.setDataPosition(0);
+
+        Options parceledOptions = Options.CREATOR.createFromParcel(parcel);
+        assertThat(options.staleWhileRevalidate(), is(true));
+        assertThat(parceledOptions.staleWhileRevalidate(), is(true));
+    }
+
     @Test
     public void shouldSetCustomTabsOptions() {
         CustomTabsOptions ctOptions = CustomTabsOptions.newBuilder().build();
@@ -677,6 +731,12 @@ public class OptionsTest {
         assertThat(options.getAudience(), is(nullValue()));
         assertThat(options.getScheme(), is(nullValue()));
         assertThat(options.getCustomTabsOptions(), is(nullValue()));
+        assertThat(options.getConfigurationCacheTTL(), is(0L));
+        assertThat(options.getConfigurationRequestTimeout(), is(0L));
+        assertThat(options.getConfigurationRequestRetries(), is(0));
+        assertThat(options.getConfigurationHedgingDelay(), is(0L));
+        assertThat(options.staleWhileRevalidate(), is(false));
+        assertThat(options.getExecutorId(), is(nullValue()));
         assertThat(options.usernameStyle(), is(equalTo(UsernameStyle.DEFAULT)));
         assertThat(options.visibleSignUpFieldsThreshold(), is(equalTo(2)));
         assertThat(options.getTheme(), is(notNullValue()));
@@ -0,0 +1,233 @@
+/*
+ * RetryPolicyTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.internal.configuration;
+
+import com.auth0.android.request.HttpMethod;
+import com.auth0.android.request.NetworkingClient;
+import com.auth0.android.request.RequestOptions;
+import com.auth0.android.request.ServerResponse;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 21)
+public class RetryPolicyTest {
+
+    private static final String URL = "https://tenant.auth0.com/client/CLIENT_ID.js";
+
+    @Test
+    public void shouldNotCreatePolicyWhenNothingIsSet() {
+        final Options options = Mockito.mock(Options.class);
+        assertThat(RetryPolicy.from(options), is(nullValue()));
+    }
+
+    @Test
+    public void shouldCreatePolicyWhenTimeoutIsSet() {
+        final Options options = Mockito.mock(Options.class);
+        Mockito.when(options.getConfigurationRequestTimeout()).thenReturn(1000L);
+        assertThat(RetryPolicy.from(options), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldCreatePolicyWhenHedgingDelayIsSet() {
+        final Options options = Mockito.mock(Options.class);
+        Mockito.when(options.getConfigurationHedgingDelay()).thenReturn(500L);
+        assertThat(RetryPolicy.from(options), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldIgnoreNegativeValues() {
+        final Options options = Mockito.mock(Options.class);
+        Mockito.when(options.getConfigurationRequestTimeout()).thenReturn(-1L);
+        Mockito.when(options.getConfigurationRequestRetries()).thenReturn(-1);
+        assertThat(RetryPolicy.from(options), is(nullValue()));
+    }
+
+    @Test
+    public void shouldBackoffExponentiallyWithJitter() {
+        final RetryPolicy policy = new RetryPolicy(0, 10, 0, 100);
+        for (int i = 0; i < 50; i++) {
+            assertThat(policy.backoffFor(1), is(allOf(greaterThanOrEqualTo(50L), lessThanOrEqualTo(100L))));
+            assertThat(policy.backoffFor(3), is(allOf(greaterThanOrEqualTo(200L), lessThanOrEqualTo(400L))));
+        }
+    }
+
+    @Test
+    public void shouldLimitTheBackoff() {
+        final RetryPolicy policy = new RetryPolicy(0, 100, 0, 100);
+        assertThat(policy.backoffFor(100), is(lessThanOrEqualTo(4000L)));
+        assertThat(policy.backoffFor(100), is(greaterThanOrEqualTo(2000L)));
+    }
+
+    @Test
+    public void shouldNotUseTheExecutorRunningTheFetchForTheAttempts() throws Exception {
+        final ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            final RetryPolicy policy = new RetryPolicy(0, 0, 50, 10);
+            final NetworkingClient client = (url, options) -> response(200);
+            final Future<ServerResponse> result = single.submit(() -> policy.load(client, URL, new RequestOptions(HttpMethod.GET.INSTANCE)));
+
+            assertThat(result.get(5, TimeUnit.SECONDS).getStatusCode(), is(200));
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldTimeOutWhileTheAttemptIsBlocked() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final NetworkingClient client = (url, options) -> {
+            await(release);
+            return response(200);
+        };
+        final RetryPolicy policy = new RetryPolicy(100, 0, 0, 10);
+        final long start = System.currentTimeMillis();
+        SocketTimeoutException timeout = null;
+        try {
+            policy.load(client, URL, new RequestOptions(HttpMethod.GET.INSTANCE));
+        } catch (SocketTimeoutException e) {
+            timeout = e;
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(timeout, is(notNullValue()));
+        assertThat(System.currentTimeMillis() - start, is(lessThan(2000L)));
+    }
+
+    @Test
+    public void shouldHedgeWhenTheFirstAttemptIsSlow() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final NetworkingClient client = (url, options) -> {
+            if (calls.incrementAndGet() == 1) {
+                await(release);
+                return response(500);
+            }
+            return response(200);
+        };
+        final RetryPolicy policy = new RetryPolicy(0, 0, 50, 10);
+        try {
+            final ServerResponse response = policy.load(client, URL, new RequestOptions(HttpMethod.GET.INSTANCE));
+
+            assertThat(response.getStatusCode(), is(200));
+            assertThat(calls.get(), is(2));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void shouldFailTheAttemptWhenNoThreadIsAvailable() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final NetworkingClient client = (url, options) -> {
+            calls.incrementAndGet();
+            return response(200);
+        };
+        final RetryPolicy policy = new RetryPolicy(0, 1, 0, 10, runnable -> {
+            throw new RejectedExecutionException();
+        });
+        IOException error = null;
+        try {
+            policy.load(client, URL, new RequestOptions(HttpMethod.GET.INSTANCE));
+        } catch (IOException e) {
+            error = e;
+        }
+
+        assertThat(error, is(notNullValue()));
+        assertThat(error.getCause(), is(instanceOf(RejectedExecutionException.class)));
+        assertThat(calls.get(), is(0));
+    }
+
+    @Test
+    public void shouldWaitForTheFirstAttemptWhenNoThreadIsAvailableToHedge() throws Exception {
+        final ExecutorService single = Executors.newSingleThreadExecutor();
+        final AtomicInteger submitted = new AtomicInteger();
+        final NetworkingClient client = (url, options) -> {
+            sleep(200);
+            return response(200);
+        };
+        final RetryPolicy policy = new RetryPolicy(0, 0, 50, 10, runnable -> {
+            if (submitted.incrementAndGet() > 1) {
+                throw new RejectedExecutionException();
+            }
+            single.execute(runnable);
+        });
+        try {
+            final ServerResponse response = policy.load(client, URL, new RequestOptions(HttpMethod.GET.INSTANCE));
+
+            assertThat(response.getStatusCode(), is(200));
+            assertThat(submitted.get(), is(2));
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    private static ServerResponse response(int statusCode) {
+        return new ServerResponse(statusCode, new ByteArrayInputStream("{}".getBytes()), Collections.emptyMap());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
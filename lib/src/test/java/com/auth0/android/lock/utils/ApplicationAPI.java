@@ -26,13 +26,17 @@ package com.auth0.android.lock.utils;
 
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
 
 public class ApplicationAPI {
 
+    public static final String VALID_JSONP = "Auth0.setClient({\"id\":\"CLIENTID\",\"tenant\":\"overmind\",\"subscription\":\"free\",\"authorize\":\"https://samples.auth0.com/authorize\",\"callback\":\"http://localhost:3000/\",\"hasAllowedOrigins\":true,\"strategies\":[{\"name\":\"twitter\",\"connections\":[{\"name\":\"twitter\"}]}]});";
+
     private MockWebServer server;
 
     public ApplicationAPI(SSLTestUtils sslUtils) throws IOException {
@@ -52,20 +56,57 @@ public class ApplicationAPI {
         return server.takeRequest();
     }
 
+    public int getRequestCount() {
+        return server.getRequestCount();
+    }
+
     public void willReturnValidJSONPResponse() {
-        willReturnApplicationResponseWithBody("Auth0.setClient({\"id\":\"CLIENTID\",\"tenant\":\"overmind\",\"subscription\":\"free\",\"authorize\":\"https://samples.auth0.com/authorize\",\"callback\":\"http://localhost:3000/\",\"hasAllowedOrigins\":true,\"strategies\":[{\"name\":\"twitter\",\"connections\":[{\"name\":\"twitter\"}]}]});", 200);
+        server.enqueue(validJSONPResponse());
+    }
+
+    public void willReturnValidJSONPResponseWithETag(String eTag) {
+        MockResponse response = validJSONPResponse()
+                .addHeader("ETag", eTag);
+        server.enqueue(response);
+    }
+
+    public void willReturnValidJSONPResponseAfter(long delay, TimeUnit unit) {
+        server.enqueue(validJSONPResponse().setHeadersDelay(delay, unit));
+    }
+
+    public void willReturnServerError() {
+        server.enqueue(applicationResponseWithBody("", 503));
+    }
+
+    public void willDropConnection() {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+    }
+
+    public void willReturnJSONWebKeys() {
+        server.enqueue(responseWithJSON("{\"keys\":[]}", 200));
+    }
+
+    public void willReturnNotModifiedResponse() {
+        server.enqueue(new MockResponse().setResponseCode(304));
+    }
+
+    public void willReturnJSONPResponse(String body) {
+        server.enqueue(applicationResponseWithBody(body, 200));
     }
 
     public void willReturnInvalidJSONPLengthResponse() {
         server.enqueue(responseWithJSON("SHORTJSON", 200));
     }
 
-    private void willReturnApplicationResponseWithBody(String body, int statusCode) {
-        MockResponse response = new MockResponse()
+    private MockResponse validJSONPResponse() {
+        return applicationResponseWithBody(VALID_JSONP, 200);
+    }
+
+    private MockResponse applicationResponseWithBody(String body, int statusCode) {
+        return new MockResponse()
                 .setResponseCode(statusCode)
                 .addHeader("Content-Type", "application/x-javascript")
                 .setBody(body);
-        server.enqueue(response);
     }
 
     private MockResponse responseWithJSON(String json, int statusCode) {
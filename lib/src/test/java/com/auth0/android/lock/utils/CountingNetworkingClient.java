@@ -0,0 +1,117 @@
+/*
+ * CountingNetworkingClient.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.utils;
+
+import androidx.annotation.NonNull;
+
+import com.auth0.android.request.NetworkingClient;
+import com.auth0.android.request.RequestOptions;
+import com.auth0.android.request.ServerResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * NetworkingClient that counts the requests made through it, grouped by host, before passing them to the
+ * wrapped client. Use it to check that Lock sends both the CDN and the Authentication API calls through
+ * the single client given to it. It doesn't tell whether the wrapped client reused its connections.
+ */
+public class CountingNetworkingClient implements NetworkingClient {
+
+    private final NetworkingClient client;
+    private final Map<String, Integer> requestsByHost = new HashMap<>();
+    private int requestCount;
+
+    /**
+     * Creates a new instance that counts the requests made with the given client.
+     *
+     * @param client the client that makes the requests.
+     */
+    public CountingNetworkingClient(@NonNull NetworkingClient client) {
+        this.client = client;
+    }
+
+    @NonNull
+    @Override
+    public ServerResponse load(@NonNull String url, @NonNull RequestOptions options) throws IllegalArgumentException, IOException {
+        count(hostOf(url));
+        return client.load(url, options);
+    }
+
+    private synchronized void count(@NonNull String host) {
+        requestCount++;
+        final Integer count = requestsByHost.get(host);
+        requestsByHost.put(host, count == null ? 1 : count + 1);
+    }
+
+    /**
+     * Getter for the number of requests made.
+     *
+     * @return the number of requests made through this client.
+     */
+    public synchronized int getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Getter for the number of requests made to the given host.
+     *
+     * @param host the host, including the port if it's not the default one.
+     * @return the number of requests made to the host through this client.
+     */
+    public synchronized int getRequestCount(@NonNull String host) {
+        final Integer count = requestsByHost.get(host);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Getter for the number of different hosts requested.
+     *
+     * @return the number of hosts requested through this client.
+     */
+    public synchronized int getHostCount() {
+        return requestsByHost.size();
+    }
+
+    /**
+     * Sets all the counts back to zero.
+     */
+    public synchronized void reset() {
+        requestCount = 0;
+        requestsByHost.clear();
+    }
+
+    @NonNull
+    private static String hostOf(@NonNull String url) {
+        try {
+            final String authority = URI.create(url).getAuthority();
+            return authority != null ? authority : url;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * CountingNetworkingClientTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.utils;
+
+import com.auth0.android.request.HttpMethod;
+import com.auth0.android.request.NetworkingClient;
+import com.auth0.android.request.RequestOptions;
+import com.auth0.android.request.ServerResponse;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+
+public class CountingNetworkingClientTest {
+
+    private NetworkingClient delegate;
+    private ServerResponse response;
+    private CountingNetworkingClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        delegate = Mockito.mock(NetworkingClient.class);
+        response = new ServerResponse(200, new ByteArrayInputStream(new byte[0]), Collections.emptyMap());
+        Mockito.when(delegate.load(anyString(), any(RequestOptions.class))).thenReturn(response);
+        client = new CountingNetworkingClient(delegate);
+    }
+
+    @Test
+    public void shouldDelegateTheRequests() throws Exception {
+        final RequestOptions options = new RequestOptions(HttpMethod.GET.INSTANCE);
+        final ServerResponse result = client.load("https://tenant.auth0.com/oauth/token", options);
+
+        assertThat(result, is(sameInstance(response)));
+        verify(delegate).load("https://tenant.auth0.com/oauth/token", options);
+    }
+
+    @Test
+    public void shouldCountRequestsByHost() throws Exception {
+        final RequestOptions options = new RequestOptions(HttpMethod.GET.INSTANCE);
+        client.load("https://cdn.auth0.com/client/CLIENTID.js", options);
+        client.load("https://tenant.auth0.com/oauth/token", options);
+        client.load("https://tenant.auth0.com/userinfo", options);
+        client.load("https://tenant.auth0.com:8443/userinfo", options);
+
+        assertThat(client.getRequestCount(), is(4));
+        assertThat(client.getRequestCount("tenant.auth0.com"), is(2));
+        assertThat(client.getRequestCount("tenant.auth0.com:8443"), is(1));
+        assertThat(client.getRequestCount("other.auth0.com"), is(0));
+        assertThat(client.getHostCount(), is(3));
+    }
+
+    @Test
+    public void shouldReset() throws Exception {
+        client.load("https://tenant.auth0.com/oauth/token", new RequestOptions(HttpMethod.POST.INSTANCE));
+        client.reset();
+
+        assertThat(client.getRequestCount(), is(0));
+        assertThat(client.getHostCount(), is(0));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * CountryCodesTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.utils;
+
+import com.auth0.android.lock.adapters.Country;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class CountryCodesTest {
+
+    @Test
+    public void shouldContainAllCountriesSortedByIsoCode() {
+        List<Country> countries = CountryCodes.createCountries();
+
+        assertThat(countries.size(), is(240));
+        for (int i = 1; i < countries.size(); i++) {
+            assertThat(countries.get(i - 1).getIsoCode().compareTo(countries.get(i).getIsoCode()), is(lessThan(0)));
+        }
+    }
+
+    @Test
+    public void shouldMatchIsoCodesWithDialCodes() {
+        List<Country> countries = CountryCodes.createCountries();
+
+        assertThat(countries.get(0).getIsoCode(), is("AD"));
+        assertThat(countries.get(0).getDialCode(), is("+376"));
+        assertThat(countries.get(countries.size() - 1).getIsoCode(), is("ZW"));
+        assertThat(countries.get(countries.size() - 1).getDialCode(), is("+263"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowToModifyTheList() {
+        CountryCodes.createCountries().clear();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * CountryRepositoryTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.utils;
+
+import com.auth0.android.lock.adapters.Country;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CountryRepositoryTest {
+
+    private CountryRepository repository;
+
+    @Before
+    public void setUp() {
+        repository = new CountryRepository();
+    }
+
+    @Test
+    public void shouldNotHaveCountriesBeforeLoading() {
+        assertThat(repository.isLoaded(), is(false));
+        assertThat(repository.getCountries(), is(nullValue()));
+        assertThat(repository.findByIsoCode("US"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldLoadCountriesOnce() {
+        List<Country> countries = repository.load();
+
+        assertThat(repository.isLoaded(), is(true));
+        assertThat(countries.size(), is(240));
+        assertThat(repository.load(), is(sameInstance(countries)));
+        assertThat(repository.getCountries(), is(sameInstance(countries)));
+    }
+
+    @Test
+    public void shouldFindCountriesByIsoCode() {
+        repository.load();
+
+        Country country = repository.findByIsoCode("GB");
+        assertThat(country, is(notNullValue()));
+        assertThat(country.getDialCode(), is("+44"));
+        assertThat(repository.findByIsoCode("gb"), is(sameInstance(country)));
+        assertThat(repository.findByIsoCode("XX"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldShareTheInstanceAcrossTheProcess() {
+        assertThat(CountryRepository.getInstance(), is(sameInstance(CountryRepository.getInstance())));
+    }
+}
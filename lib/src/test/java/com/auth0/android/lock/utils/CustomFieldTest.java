@@ -42,7 +42,9 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
 import static com.auth0.android.lock.utils.CustomField.Storage;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.eq;
@@ -112,6 +114,18 @@ public class CustomFieldTest {
         assertThat(parcelableCustomField.getStorage(), is(STORAGE));
     }
 
+    @Test
+    public void shouldBeEqualToFieldWithSameValues() {
+        CustomField field = new CustomField(ICON, TYPE, KEY, HINT, STORAGE);
+        CustomField sameField = new CustomField(ICON, TYPE, KEY, HINT, STORAGE);
+
+        assertThat(field, is(equalTo(sameField)));
+        assertThat(field.hashCode(), is(sameField.hashCode()));
+        assertThat(field, is(not(equalTo(new CustomField(ICON, FieldType.TYPE_NAME, KEY, HINT, STORAGE)))));
+        assertThat(field, is(not(equalTo(new CustomField(ICON, TYPE, "other_key", HINT, STORAGE)))));
+        assertThat(field, is(not(equalTo(new CustomField(ICON, TYPE, KEY, HINT, Storage.USER_METADATA)))));
+    }
+
     @Test
     public void shouldConfigureTheEmailField() {
         ValidatedInputView input = Mockito.mock(ValidatedInputView.class);
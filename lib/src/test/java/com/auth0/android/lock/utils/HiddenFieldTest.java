@@ -4,6 +4,8 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
 import static org.junit.Assert.assertThat;
 
 public class HiddenFieldTest {
@@ -31,4 +33,13 @@ public class HiddenFieldTest {
     public void shouldGetValue() {
         assertThat(field.getValue(), is(VALUE));
     }
+
+    @Test
+    public void shouldBeEqualToFieldWithSameValues() {
+        HiddenField sameField = new HiddenField(KEY, VALUE, STORAGE);
+        assertThat(field, is(equalTo(sameField)));
+        assertThat(field.hashCode(), is(sameField.hashCode()));
+        assertThat(field, is(not(equalTo(new HiddenField(KEY, "other value", STORAGE)))));
+        assertThat(field, is(not(equalTo((SignUpField) new CustomField(0, CustomField.FieldType.TYPE_NAME, KEY, 0, STORAGE)))));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+/*
+ * InputValidatorsTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.utils;
+
+import com.auth0.android.lock.views.ValidatedInputView.DataType;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class InputValidatorsTest {
+
+    @Test
+    public void shouldValidateEmail() {
+        assertThat(InputValidators.isEmail("john@doe.com"), is(true));
+        assertThat(InputValidators.isEmail("john.doe@"), is(false));
+        assertThat(InputValidators.isEmail(null), is(false));
+        assertThat(InputValidators.isValid(DataType.EMAIL, "john@doe.com"), is(true));
+        assertThat(InputValidators.isValid(DataType.EMAIL, "john"), is(false));
+    }
+
+    @Test
+    public void shouldValidateUsername() {
+        assertThat(InputValidators.isUsername("john_doe"), is(true));
+        assertThat(InputValidators.isUsername("john doe"), is(false));
+        assertThat(InputValidators.isUsername(null), is(false));
+        assertThat(InputValidators.isValid(DataType.USERNAME, "john_doe"), is(true));
+        assertThat(InputValidators.isValid(DataType.USERNAME, "a_very_long_username"), is(false));
+    }
+
+    @Test
+    public void shouldValidateUsernameOrEmail() {
+        assertThat(InputValidators.isValid(DataType.USERNAME_OR_EMAIL, "john_doe"), is(true));
+        assertThat(InputValidators.isValid(DataType.USERNAME_OR_EMAIL, "a_very_long_username@doe.com"), is(true));
+        assertThat(InputValidators.isValid(DataType.USERNAME_OR_EMAIL, "john doe"), is(false));
+    }
+
+    @Test
+    public void shouldValidatePhoneNumber() {
+        assertThat(InputValidators.isValid(DataType.PHONE_NUMBER, "123456"), is(true));
+        assertThat(InputValidators.isValid(DataType.MOBILE_PHONE, "12345678901234"), is(true));
+        assertThat(InputValidators.isValid(DataType.PHONE_NUMBER, "12345"), is(false));
+        assertThat(InputValidators.isValid(DataType.PHONE_NUMBER, "12345a"), is(false));
+    }
+
+    @Test
+    public void shouldValidateCode() {
+        assertThat(InputValidators.isValid(DataType.MFA_CODE, "1234"), is(true));
+        assertThat(InputValidators.isValid(DataType.MFA_CODE, "123"), is(false));
+    }
+
+    @Test
+    public void shouldValidateNonEmptyTypes() {
+        assertThat(InputValidators.isValid(DataType.TEXT_NAME, "John"), is(true));
+        assertThat(InputValidators.isValid(DataType.NUMBER, ""), is(false));
+        assertThat(InputValidators.isValid(DataType.PASSWORD, " "), is(true));
+        assertThat(InputValidators.isValid(DataType.NON_EMPTY_USERNAME, ""), is(false));
+    }
+
+    @Test
+    public void shouldValidateFromSeveralThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final boolean valid = i % 2 == 0;
+            final String value = valid ? "user" + i + "@auth0.com" : "user " + i;
+            results.add(executor.submit(() -> InputValidators.isEmail(value) == valid));
+        }
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(), is(true));
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * PasswordPolicyEvaluatorTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.utils;
+
+import com.auth0.android.lock.internal.configuration.PasswordComplexity;
+import com.auth0.android.lock.internal.configuration.PasswordStrength;
+
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class PasswordPolicyEvaluatorTest {
+
+    @Test
+    public void shouldCountCharacterClassesInASinglePass() {
+        PasswordPolicyEvaluator evaluator = new PasswordPolicyEvaluator(new PasswordComplexity(PasswordStrength.NONE, null));
+        PasswordPolicyEvaluator.Result result = evaluator.evaluate("aB1 !bbbCC22");
+
+        assertThat(result.getLowercaseCount(), is(4));
+        assertThat(result.getUppercaseCount(), is(3));
+        assertThat(result.getNumericCount(), is(3));
+        assertThat(result.getSpecialCount(), is(2));
+        assertThat(result.getMaxIdenticalRun(), is(3));
+    }
+
+    @Test
+    public void shouldNotCountNonAsciiCharactersInAnyClass() {
+        PasswordPolicyEvaluator evaluator = new PasswordPolicyEvaluator(new PasswordComplexity(PasswordStrength.NONE, null));
+        PasswordPolicyEvaluator.Result result = evaluator.evaluate("ñÉ€");
+
+        assertThat(result.getLowercaseCount(), is(0));
+        assertThat(result.getUppercaseCount(), is(0));
+        assertThat(result.getNumericCount(), is(0));
+        assertThat(result.getSpecialCount(), is(0));
+        assertThat(result.getMaxIdenticalRun(), is(1));
+    }
+
+    @Test
+    public void shouldDetectIdenticalCharacters() {
+        PasswordPolicyEvaluator evaluator = new PasswordPolicyEvaluator(new PasswordComplexity(PasswordStrength.EXCELLENT, null));
+
+        assertThat(evaluator.evaluate("aaBB11$$xyz").hasNoIdenticalCharacters(), is(true));
+        assertThat(evaluator.evaluate("aaaBB11$$xy").hasNoIdenticalCharacters(), is(false));
+        assertThat(evaluator.isValid("aaBB11$$xyz"), is(true));
+        assertThat(evaluator.isValid("aaaBB11$$xy"), is(false));
+    }
+
+    @Test
+    public void shouldUseMinimumLengthOfPolicy() {
+        assertThat(new PasswordPolicyEvaluator(new PasswordComplexity(PasswordStrength.NONE, null)).getMinimumLength(), is(1));
+        assertThat(new PasswordPolicyEvaluator(new PasswordComplexity(PasswordStrength.LOW, null)).getMinimumLength(), is(6));
+        assertThat(new PasswordPolicyEvaluator(new PasswordComplexity(PasswordStrength.FAIR, null)).getMinimumLength(), is(8));
+        assertThat(new PasswordPolicyEvaluator(new PasswordComplexity(PasswordStrength.GOOD, null)).getMinimumLength(), is(8));
+        assertThat(new PasswordPolicyEvaluator(new PasswordComplexity(PasswordStrength.EXCELLENT, null)).getMinimumLength(), is(10));
+        assertThat(new PasswordPolicyEvaluator(new PasswordComplexity(PasswordStrength.EXCELLENT, 4)).getMinimumLength(), is(4));
+    }
+
+    @Test
+    public void shouldRequireThreeCharacterClassesOnGoodPolicy() {
+        PasswordPolicyEvaluator evaluator = new PasswordPolicyEvaluator(new PasswordComplexity(PasswordStrength.GOOD, null));
+
+        assertThat(evaluator.isValid("abcdefgh"), is(false));
+        assertThat(evaluator.isValid("abcd1234"), is(false));
+        assertThat(evaluator.isValid("abcd123$"), is(true));
+        assertThat(evaluator.isValid("ABCD123$"), is(true));
+        assertThat(evaluator.isValid("aB1$"), is(false));
+    }
+
+    @Test
+    public void shouldRequireLowerUpperAndNumericCharactersOnFairPolicy() {
+        PasswordPolicyEvaluator evaluator = new PasswordPolicyEvaluator(new PasswordComplexity(PasswordStrength.FAIR, null));
+
+        assertThat(evaluator.isValid("abcd123$"), is(false));
+        assertThat(evaluator.isValid("abCD1234"), is(true));
+    }
+
+    @Test
+    public void shouldRejectMissingOrTooLongPasswords() {
+        PasswordPolicyEvaluator evaluator = new PasswordPolicyEvaluator(new PasswordComplexity(PasswordStrength.NONE, null));
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 129; i++) {
+            sb.append(i % 10);
+        }
+
+        assertThat(evaluator.isValid(null), is(false));
+        assertThat(evaluator.isValid(""), is(false));
+        assertThat(evaluator.isValid(sb.toString()), is(false));
+        assertThat(evaluator.isValid(sb.substring(1)), is(true));
+    }
+}
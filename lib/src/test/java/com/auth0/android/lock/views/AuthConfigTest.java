@@ -6,6 +6,7 @@ import android.os.Build;
 import com.auth0.android.lock.R;
 import com.auth0.android.lock.internal.configuration.OAuthConnection;
 
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -36,6 +37,11 @@ public class AuthConfigTest {
         authConfig = new AuthConfig(connection, R.style.Lock_Theme_AuthStyle_Facebook);
     }
 
+    @After
+    public void tearDown() {
+        AuthConfig.clearRegisteredStyles();
+    }
+
     @Test
     public void shouldGetConnection() {
         Assert.assertThat(authConfig.getConnection(), is(connection));
@@ -65,6 +71,15 @@ public class AuthConfigTest {
         Assert.assertThat(authConfig.getBackgroundColor(RuntimeEnvironment.application), is(equalTo(color)));
     }
 
+    @Test
+    public void shouldResolveEveryAttributeOfEachStyle() {
+        AuthConfig twitterConfig = new AuthConfig(connection, R.style.Lock_Theme_AuthStyle_Twitter);
+        Assert.assertThat(authConfig.getIdForResource(RuntimeEnvironment.application, R.attr.Auth0_Logo), is(R.drawable.com_auth0_lock_ic_social_facebook));
+        Assert.assertThat(twitterConfig.getIdForResource(RuntimeEnvironment.application, R.attr.Auth0_Logo), is(R.drawable.com_auth0_lock_ic_social_twitter));
+        Assert.assertThat(authConfig.getIdForResource(RuntimeEnvironment.application, R.attr.Auth0_Name), is(R.string.com_auth0_lock_social_facebook));
+        Assert.assertThat(twitterConfig.getIdForResource(RuntimeEnvironment.application, R.attr.Auth0_BackgroundColor), is(R.color.com_auth0_lock_social_twitter));
+    }
+
     @Test
     public void shouldHaveValidDefaultName() {
         ReflectionHelpers.setStaticField(Build.VERSION.class, "SDK_INT", Build.VERSION_CODES.JELLY_BEAN);
@@ -137,4 +152,19 @@ public class AuthConfigTest {
         Assert.assertThat(AuthConfig.styleForStrategy("unknown-strategy"), is(R.style.Lock_Theme_AuthStyle));
     }
 
+    @Test
+    public void shouldGetRegisteredStyleForUnknownStrategy() {
+        AuthConfig.registerStyleForStrategy("unknown-strategy", R.style.Lock_Theme_AuthStyle_Twitter);
+        Assert.assertThat(AuthConfig.styleForStrategy("unknown-strategy"), is(R.style.Lock_Theme_AuthStyle_Twitter));
+    }
+
+    @Test
+    public void shouldPreferRegisteredStyleOverLockStyle() {
+        AuthConfig.registerStyleForStrategy("facebook", R.style.Lock_Theme_AuthStyle_Twitter);
+        Assert.assertThat(AuthConfig.styleForStrategy("facebook"), is(R.style.Lock_Theme_AuthStyle_Twitter));
+
+        AuthConfig.clearRegisteredStyles();
+        Assert.assertThat(AuthConfig.styleForStrategy("facebook"), is(R.style.Lock_Theme_AuthStyle_Facebook));
+    }
+
 }
\ No newline at end of file
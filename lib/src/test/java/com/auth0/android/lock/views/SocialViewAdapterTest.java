@@ -0,0 +1,99 @@
+/*
+ * SocialViewAdapterTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.views;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.auth0.android.lock.R;
+import com.auth0.android.lock.internal.configuration.AuthMode;
+import com.auth0.android.lock.internal.configuration.OAuthConnection;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 21)
+public class SocialViewAdapterTest {
+
+    private SocialViewAdapter adapter;
+    private RecyclerView.AdapterDataObserver observer;
+
+    @Before
+    public void setUp() {
+        AuthConfig facebook = new AuthConfig(connection("facebook-prod", "facebook"), R.style.Lock_Theme_AuthStyle_Facebook);
+        AuthConfig twitter = new AuthConfig(connection("twitter", "twitter"), R.style.Lock_Theme_AuthStyle_Twitter);
+        AuthConfig facebookAgain = new AuthConfig(connection("facebook-prod", "facebook"), R.style.Lock_Theme_AuthStyle_Facebook);
+        adapter = new SocialViewAdapter(RuntimeEnvironment.application, Arrays.asList(facebook, twitter, facebookAgain));
+        observer = mock(RecyclerView.AdapterDataObserver.class);
+        adapter.registerAdapterDataObserver(observer);
+    }
+
+    @Test
+    public void shouldHaveStableIdsKeyedByConnectionName() {
+        assertThat(adapter.hasStableIds(), is(true));
+        assertThat(adapter.getItemId(0), is(not(adapter.getItemId(1))));
+        assertThat(adapter.getItemId(0), is(adapter.getItemId(2)));
+    }
+
+    @Test
+    public void shouldNotifyButtonModeChangesWithPayload() {
+        adapter.setButtonMode(AuthMode.SIGN_UP);
+
+        verify(observer).onItemRangeChanged(eq(0), eq(3), any());
+        verify(observer, never()).onChanged();
+    }
+
+    @Test
+    public void shouldNotNotifyWhenButtonModeDoesNotChange() {
+        adapter.setButtonMode(AuthMode.LOG_IN);
+
+        verify(observer, never()).onItemRangeChanged(anyInt(), anyInt(), any());
+        verify(observer, never()).onChanged();
+    }
+
+    private static OAuthConnection connection(String name, String strategy) {
+        OAuthConnection connection = mock(OAuthConnection.class);
+        when(connection.getName()).thenReturn(name);
+        when(connection.getStrategy()).thenReturn(strategy);
+        return connection;
+    }
+}
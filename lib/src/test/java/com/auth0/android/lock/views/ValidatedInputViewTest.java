@@ -0,0 +1,137 @@
+/*
+ * ValidatedInputViewTest.java
+ *
+ * Copyright (c) 2016 Auth0 (http://auth0.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.auth0.android.lock.views;
+
+import android.app.Activity;
+
+import com.auth0.android.lock.internal.LockExecutor;
+import com.auth0.android.lock.views.interfaces.IdentityListener;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static android.os.Looper.getMainLooper;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.robolectric.Shadows.shadowOf;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 21)
+public class ValidatedInputViewTest {
+
+    private List<Runnable> tasks;
+    private IdentityListener listener;
+    private ValidatedInputView view;
+
+    @Before
+    public void setUp() {
+        tasks = new ArrayList<>();
+        LockExecutor.setExecutor(tasks::add);
+        listener = mock(IdentityListener.class);
+
+        ActivityController<Activity> controller = Robolectric.buildActivity(Activity.class).create();
+        view = new ValidatedInputView(controller.get());
+        view.setDataType(ValidatedInputView.DataType.EMAIL);
+        view.setIdentityListener(listener);
+        controller.get().setContentView(view);
+        controller.start().resume().visible();
+    }
+
+    @After
+    public void tearDown() {
+        LockExecutor.setExecutor(null);
+    }
+
+    @Test
+    public void shouldCoalesceKeystrokesIntoASingleValidation() {
+        view.setText("john@");
+        view.setText("john@doe");
+        view.setText("john@doe.com");
+
+        assertThat(tasks.size(), is(1));
+        tasks.get(0).run();
+        shadowOf(getMainLooper()).idle();
+
+        verify(listener).onEmailChanged("john@doe.com");
+        verify(listener, never()).onEmailChanged("john@doe");
+    }
+
+    @Test
+    public void shouldDiscardResultsOfOutdatedText() {
+        view.setText("john@doe.com");
+        tasks.get(0).run();
+        view.setText("john@doe.co");
+        shadowOf(getMainLooper()).idle();
+
+        verify(listener, never()).onEmailChanged(anyString());
+
+        assertThat(tasks.size(), is(2));
+        tasks.get(1).run();
+        shadowOf(getMainLooper()).idle();
+
+        verify(listener).onEmailChanged("john@doe.co");
+        verify(listener, never()).onEmailChanged("john@doe.com");
+    }
+
+    @Test
+    public void shouldNotNotifyInvalidEmails() {
+        view.setText("john@");
+        tasks.get(0).run();
+        shadowOf(getMainLooper()).idle();
+
+        verify(listener, never()).onEmailChanged(anyString());
+    }
+
+    @Test
+    public void shouldValidateWithTheRulesCapturedWhenTyping() {
+        view.setText("john@doe.com");
+        view.setDataType(ValidatedInputView.DataType.PASSWORD);
+        tasks.get(0).run();
+        shadowOf(getMainLooper()).idle();
+
+        verify(listener).onEmailChanged("john@doe.com");
+    }
+
+    @Test
+    public void shouldValidateTextWithoutTouchingTheView() {
+        assertThat(view.isValid("john@doe.com", true), is(true));
+        assertThat(view.isValid("john", true), is(false));
+        assertThat(view.isValid("", true), is(false));
+        assertThat(view.isValid("", false), is(true));
+    }
+}